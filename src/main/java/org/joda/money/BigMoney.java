@@ -23,6 +23,8 @@ import java.math.BigInteger;
 import java.math.RoundingMode;
 import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import java.util.regex.Pattern;
 
 import org.joda.convert.FromString;
@@ -110,7 +112,7 @@ public final class BigMoney implements BigMoneyProvider, Comparable<BigMoneyProv
      */
     public static BigMoney of(CurrencyUnit currency, double amount) {
         MoneyUtils.checkNotNull(currency, "Currency must not be null");
-        return BigMoney.of(currency, BigDecimal.valueOf(amount).stripTrailingZeros());
+        return BigMoney.of(currency, MoneyMath.toBigDecimalStripped(amount));
     }
 
     //-----------------------------------------------------------------------
@@ -226,7 +228,8 @@ public final class BigMoney implements BigMoneyProvider, Comparable<BigMoneyProv
      * @return the instance representing zero, never null
      */
     public static BigMoney zero(CurrencyUnit currency) {
-        return BigMoney.of(currency, BigDecimal.ZERO);
+        MoneyUtils.checkNotNull(currency, "Currency must not be null");
+        return currency.getBigMoneyZero();
     }
 
     /**
@@ -313,6 +316,44 @@ public final class BigMoney implements BigMoneyProvider, Comparable<BigMoneyProv
         return total;
     }
 
+    /**
+     * Obtains an instance of {@code BigMoney} as the total value of
+     * a list, using the common fork/join pool.
+     * <p>
+     * The result is the same as {@link #total(Iterable)}, including the scale.
+     * A large random access list is split into chunks that are totalled in parallel.
+     * 
+     * @param monies  the monetary values to total, not empty, no null elements, not null
+     * @return the total, never null
+     * @throws IllegalArgumentException if the list is empty
+     * @throws CurrencyMismatchException if the currencies differ
+     */
+    public static BigMoney totalParallel(List<? extends BigMoneyProvider> monies) {
+        return totalParallel(monies, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Obtains an instance of {@code BigMoney} as the total value of
+     * a list, using the specified fork/join pool.
+     * <p>
+     * The result is the same as {@link #total(Iterable)}, including the scale.
+     * A large random access list is split into chunks that are totalled in parallel.
+     * 
+     * @param monies  the monetary values to total, not empty, no null elements, not null
+     * @param pool  the pool to total in, not null
+     * @return the total, never null
+     * @throws IllegalArgumentException if the list is empty
+     * @throws CurrencyMismatchException if the currencies differ
+     */
+    public static BigMoney totalParallel(List<? extends BigMoneyProvider> monies, ForkJoinPool pool) {
+        MoneyUtils.checkNotNull(monies, "Money list must not be null");
+        MoneyUtils.checkNotNull(pool, "ForkJoinPool must not be null");
+        if (monies.isEmpty()) {
+            throw new IllegalArgumentException("Money list must not be empty");
+        }
+        return MoneyTotalTask.total(monies, MoneyCollectors.summingBigMoney(), pool);
+    }
+
     /**
      * Obtains an instance of {@code Money} as the total value of
      * a possibly empty array.
@@ -372,7 +413,6 @@ public final class BigMoney implements BigMoneyProvider, Comparable<BigMoneyProv
         if (moneyStr.length() < 4) {
             throw new IllegalArgumentException("Money '" + moneyStr + "' cannot be parsed");
         }
-        String currStr = moneyStr.substring(0, 3);
         int amountStart = 3;
         while (amountStart < moneyStr.length() && moneyStr.charAt(amountStart) == ' ') {
             amountStart++;
@@ -381,7 +421,7 @@ public final class BigMoney implements BigMoneyProvider, Comparable<BigMoneyProv
         if (PARSE_REGEX.matcher(amountStr).matches() == false) {
             throw new IllegalArgumentException("Money amount '" + moneyStr + "' cannot be parsed");
         }
-        return BigMoney.of(CurrencyUnit.of(currStr), new BigDecimal(amountStr));
+        return BigMoney.of(CurrencyUnit.of(moneyStr, 0), new BigDecimal(amountStr));
     }
 
     //-----------------------------------------------------------------------
@@ -623,6 +663,10 @@ public final class BigMoney implements BigMoneyProvider, Comparable<BigMoneyProv
      * @throws ArithmeticException if the amount is too large for a {@code long}
      */
     public long getAmountMajorLong() {
+        int cdp = currency.getDecimalPlaces();
+        if (isAmountMinorLong(cdp) && MoneyMath.isPowerOfTenLong(cdp)) {
+            return amountMinorLong(cdp) / MoneyMath.powerOfTen(cdp);
+        }
         return getAmountMajor().longValueExact();
     }
 
@@ -637,7 +681,7 @@ public final class BigMoney implements BigMoneyProvider, Comparable<BigMoneyProv
      * @throws ArithmeticException if the amount is too large for an {@code int}
      */
     public int getAmountMajorInt() {
-        return getAmountMajor().intValueExact();
+        return Math.toIntExact(getAmountMajorLong());
     }
 
     /**
@@ -669,6 +713,10 @@ public final class BigMoney implements BigMoneyProvider, Comparable<BigMoneyProv
      * @throws ArithmeticException if the amount is too large for a {@code long}
      */
     public long getAmountMinorLong() {
+        int cdp = currency.getDecimalPlaces();
+        if (isAmountMinorLong(cdp)) {
+            return amountMinorLong(cdp);
+        }
         return getAmountMinor().longValueExact();
     }
 
@@ -683,7 +731,7 @@ public final class BigMoney implements BigMoneyProvider, Comparable<BigMoneyProv
      * @throws ArithmeticException if the amount is too large for an {@code int}
      */
     public int getAmountMinorInt() {
-        return getAmountMinor().intValueExact();
+        return Math.toIntExact(getAmountMinorLong());
     }
 
     /**
@@ -699,12 +747,37 @@ public final class BigMoney implements BigMoneyProvider, Comparable<BigMoneyProv
      * @return the minor part of the amount, negative if the amount is negative
      */
     public int getMinorPart() {
-        int cdp = getCurrencyUnit().getDecimalPlaces();
+        int cdp = currency.getDecimalPlaces();
+        if (isAmountMinorLong(cdp) && MoneyMath.isPowerOfTenLong(cdp)) {
+            return Math.toIntExact(amountMinorLong(cdp) % MoneyMath.powerOfTen(cdp));
+        }
         return amount.setScale(cdp, RoundingMode.DOWN)
                     .remainder(BigDecimal.ONE)
                     .movePointRight(cdp).intValueExact();
     }
 
+    // checks if the amount in minor units has at most 18 digits, and thus fits in a long
+    private boolean isAmountMinorLong(int cdp) {
+        return amount.precision() - amount.scale() + cdp <= 18;
+    }
+
+    // gets the amount in minor units, truncating, only valid if isAmountMinorLong()
+    // works directly on the unscaled value, so at the currency scale no division occurs
+    private long amountMinorLong(int cdp) {
+        BigInteger unscaled = amount.unscaledValue();
+        if (unscaled.bitLength() >= Long.SIZE) {
+            return amount.scaleByPowerOfTen(cdp).longValue();
+        }
+        long value = unscaled.longValue();
+        int scale = amount.scale();
+        if (scale > cdp) {
+            // a long has at most 19 digits, so a larger divisor truncates to zero
+            return MoneyMath.isPowerOfTenLong(scale - cdp) ? value / MoneyMath.powerOfTen(scale - cdp) : 0;
+        }
+        // the guard ensures the result has at most 18 digits, thus cannot overflow
+        return value * MoneyMath.powerOfTen(cdp - scale);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Checks if the amount is zero.
@@ -790,7 +863,7 @@ public final class BigMoney implements BigMoneyProvider, Comparable<BigMoneyProv
      * @return the new instance with the input amount set, never null
      */
     public BigMoney withAmount(double amount) {
-        return withAmount(BigDecimal.valueOf(amount));
+        return withAmount(MoneyMath.toBigDecimal(amount));
     }
 
     //-----------------------------------------------------------------------
@@ -900,7 +973,7 @@ public final class BigMoney implements BigMoneyProvider, Comparable<BigMoneyProv
         if (amountToAdd == 0) {
             return this;
         }
-        BigDecimal newAmount = amount.add(BigDecimal.valueOf(amountToAdd));
+        BigDecimal newAmount = amount.add(MoneyMath.toBigDecimal(amountToAdd));
         return BigMoney.of(currency, newAmount);
     }
 
@@ -1015,7 +1088,7 @@ public final class BigMoney implements BigMoneyProvider, Comparable<BigMoneyProv
         if (amountToAdd == 0) {
             return this;
         }
-        BigDecimal newAmount = amount.add(BigDecimal.valueOf(amountToAdd));
+        BigDecimal newAmount = amount.add(MoneyMath.toBigDecimal(amountToAdd));
         newAmount = newAmount.setScale(getScale(), roundingMode);
         return BigMoney.of(currency, newAmount);
     }
@@ -1112,7 +1185,7 @@ public final class BigMoney implements BigMoneyProvider, Comparable<BigMoneyProv
         if (amountToSubtract == 0) {
             return this;
         }
-        BigDecimal newAmount = amount.subtract(BigDecimal.valueOf(amountToSubtract));
+        BigDecimal newAmount = amount.subtract(MoneyMath.toBigDecimal(amountToSubtract));
         return BigMoney.of(currency, newAmount);
     }
 
@@ -1227,7 +1300,7 @@ public final class BigMoney implements BigMoneyProvider, Comparable<BigMoneyProv
         if (amountToSubtract == 0) {
             return this;
         }
-        BigDecimal newAmount = amount.subtract(BigDecimal.valueOf(amountToSubtract));
+        BigDecimal newAmount = amount.subtract(MoneyMath.toBigDecimal(amountToSubtract));
         newAmount = newAmount.setScale(getScale(), roundingMode);
         return BigMoney.of(currency, newAmount);
     }
@@ -1240,6 +1313,8 @@ public final class BigMoney implements BigMoneyProvider, Comparable<BigMoneyProv
      * The result has a scale equal to the sum of the two scales.
      * For example, 'USD 1.13' multiplied by '2.5' gives 'USD 2.825'.
      * <p>
+     * If a {@link MoneyContext} is the default of the current thread, it is applied to the result.
+     * <p>
      * This instance is immutable and unaffected by this method.
      * 
      * @param valueToMultiplyBy  the scalar value to multiply by, not null
@@ -1251,7 +1326,29 @@ public final class BigMoney implements BigMoneyProvider, Comparable<BigMoneyProv
             return this;
         }
         BigDecimal newAmount = amount.multiply(valueToMultiplyBy);
-        return BigMoney.of(currency, newAmount);
+        return BigMoney.of(currency, MoneyContext.applyThreadDefault(newAmount));
+    }
+
+    /**
+     * Returns a copy of this monetary value multiplied by the specified value,
+     * limiting the scale of the result using the context.
+     * <p>
+     * The product is calculated without loss, then the context is applied.
+     * For example, 'USD 1.13' multiplied by '2.5' with a maximum scale of 2
+     * and rounding down gives 'USD 2.82'.
+     * <p>
+     * This instance is immutable and unaffected by this method.
+     * 
+     * @param valueToMultiplyBy  the scalar value to multiply by, not null
+     * @param context  the context to apply to the result, not null
+     * @return the new multiplied instance, never null
+     * @throws ArithmeticException if the rounding fails
+     */
+    public BigMoney multipliedBy(BigDecimal valueToMultiplyBy, MoneyContext context) {
+        MoneyUtils.checkNotNull(valueToMultiplyBy, "Multiplier must not be null");
+        MoneyUtils.checkNotNull(context, "MoneyContext must not be null");
+        BigDecimal newAmount = context.round(amount.multiply(valueToMultiplyBy));
+        return (newAmount.equals(amount) ? this : BigMoney.of(currency, newAmount));
     }
 
     /**
@@ -1267,6 +1364,8 @@ public final class BigMoney implements BigMoneyProvider, Comparable<BigMoneyProv
      * exactly the same BigDecimal with the same scale.
      * For example, the literal '1.45d' will be converted to '1.45'.
      * <p>
+     * If a {@link MoneyContext} is the default of the current thread, it is applied to the result.
+     * <p>
      * This instance is immutable and unaffected by this method.
      * 
      * @param valueToMultiplyBy  the scalar value to multiply by, not null
@@ -1276,8 +1375,8 @@ public final class BigMoney implements BigMoneyProvider, Comparable<BigMoneyProv
         if (valueToMultiplyBy == 1) {
             return this;
         }
-        BigDecimal newAmount = amount.multiply(BigDecimal.valueOf(valueToMultiplyBy));
-        return BigMoney.of(currency, newAmount);
+        BigDecimal newAmount = amount.multiply(MoneyMath.toBigDecimal(valueToMultiplyBy));
+        return BigMoney.of(currency, MoneyContext.applyThreadDefault(newAmount));
     }
 
     /**
@@ -1349,7 +1448,7 @@ public final class BigMoney implements BigMoneyProvider, Comparable<BigMoneyProv
      * @throws ArithmeticException if the rounding fails
      */
     public BigMoney multiplyRetainScale(double valueToMultiplyBy, RoundingMode roundingMode) {
-        return multiplyRetainScale(BigDecimal.valueOf(valueToMultiplyBy), roundingMode);
+        return multiplyRetainScale(MoneyMath.toBigDecimal(valueToMultiplyBy), roundingMode);
     }
 
     //-----------------------------------------------------------------------
@@ -1379,6 +1478,29 @@ public final class BigMoney implements BigMoneyProvider, Comparable<BigMoneyProv
         return BigMoney.of(currency, newAmount);
     }
 
+    /**
+     * Returns a copy of this monetary value divided by the specified value,
+     * using the context to determine the scale of the result.
+     * <p>
+     * With a math context, the division uses it and the scale is then limited.
+     * Without, the result has the maximum scale of the context.
+     * For example, 'USD 1.00' divided by '3' with a maximum scale of 4
+     * and rounding half-even gives 'USD 0.3333'.
+     * <p>
+     * This instance is immutable and unaffected by this method.
+     * 
+     * @param valueToDivideBy  the scalar value to divide by, not null
+     * @param context  the context to determine the result, not null
+     * @return the new divided instance, never null
+     * @throws ArithmeticException if dividing by zero
+     * @throws ArithmeticException if the rounding fails
+     */
+    public BigMoney dividedBy(BigDecimal valueToDivideBy, MoneyContext context) {
+        MoneyUtils.checkNotNull(valueToDivideBy, "Divisor must not be null");
+        MoneyUtils.checkNotNull(context, "MoneyContext must not be null");
+        return BigMoney.of(currency, context.divide(amount, valueToDivideBy));
+    }
+
     /**
      * Returns a copy of this monetary value divided by the specified value
      * using the specified rounding mode to adjust the scale.
@@ -1406,7 +1528,7 @@ public final class BigMoney implements BigMoneyProvider, Comparable<BigMoneyProv
         if (valueToDivideBy == 1) {
             return this;
         }
-        BigDecimal newAmount = amount.divide(BigDecimal.valueOf(valueToDivideBy), roundingMode);
+        BigDecimal newAmount = amount.divide(MoneyMath.toBigDecimal(valueToDivideBy), roundingMode);
         return BigMoney.of(currency, newAmount);
     }
 
@@ -1500,6 +1622,8 @@ public final class BigMoney implements BigMoneyProvider, Comparable<BigMoneyProv
      * the scale of the multiplier. If desired, the scale of the result can be
      * adjusted to the scale of the new currency using {@link #withCurrencyScale()}.
      * <p>
+     * If a {@link MoneyContext} is the default of the current thread, it is applied to the result.
+     * <p>
      * This instance is immutable and unaffected by this method.
      * 
      * @param currency  the new currency, not null
@@ -1509,6 +1633,43 @@ public final class BigMoney implements BigMoneyProvider, Comparable<BigMoneyProv
      *  conversion is not one; or if the conversion multiplier is negative
      */
     public BigMoney convertedTo(CurrencyUnit currency, BigDecimal conversionMultipler) {
+        BigMoney converted = convertedToExact(currency, conversionMultipler);
+        if (converted == this) {
+            return this;
+        }
+        return BigMoney.of(currency, MoneyContext.applyThreadDefault(converted.amount));
+    }
+
+    /**
+     * Returns a copy of this monetary value converted into another currency
+     * using the specified conversion rate, limiting the scale of the result using the context.
+     * <p>
+     * The converted amount is calculated without loss, then the context is applied.
+     * <p>
+     * This instance is immutable and unaffected by this method.
+     * 
+     * @param currency  the new currency, not null
+     * @param conversionMultipler  the conversion factor between the currencies, not null
+     * @param context  the context to apply to the result, not null
+     * @return the new multiplied instance, never null
+     * @throws IllegalArgumentException if the currency is the same as this currency and the
+     *  conversion is not one; or if the conversion multiplier is negative
+     * @throws ArithmeticException if the rounding fails
+     */
+    public BigMoney convertedTo(CurrencyUnit currency, BigDecimal conversionMultipler, MoneyContext context) {
+        MoneyUtils.checkNotNull(context, "MoneyContext must not be null");
+        BigMoney converted = convertedToExact(currency, conversionMultipler);
+        return BigMoney.of(currency, context.round(converted.amount));
+    }
+
+    /**
+     * Converts this monetary value into another currency without applying any context.
+     * 
+     * @param currency  the new currency, not null
+     * @param conversionMultipler  the conversion factor between the currencies, not null
+     * @return the new multiplied instance, never null
+     */
+    BigMoney convertedToExact(CurrencyUnit currency, BigDecimal conversionMultipler) {
         MoneyUtils.checkNotNull(currency, "CurrencyUnit must not be null");
         MoneyUtils.checkNotNull(conversionMultipler, "Multiplier must not be null");
         if (this.currency == currency) {
@@ -1543,7 +1704,7 @@ public final class BigMoney implements BigMoneyProvider, Comparable<BigMoneyProv
      * @throws ArithmeticException if the rounding fails
      */
     public BigMoney convertRetainScale(CurrencyUnit currency, BigDecimal conversionMultipler, RoundingMode roundingMode) {
-        return convertedTo(currency, conversionMultipler).withScale(getScale(), roundingMode);
+        return convertedToExact(currency, conversionMultipler).withScale(getScale(), roundingMode);
     }
 
     //-----------------------------------------------------------------------
@@ -1602,8 +1763,8 @@ public final class BigMoney implements BigMoneyProvider, Comparable<BigMoneyProv
      */
     @Override
     public int compareTo(BigMoneyProvider other) {
-        BigMoney otherMoney = of(other);
-        if (currency.equals(otherMoney.currency) == false) {
+        BigMoney otherMoney = (other instanceof BigMoney ? (BigMoney) other : of(other));
+        if (currency != otherMoney.currency && currency.equals(otherMoney.currency) == false) {
             throw new CurrencyMismatchException(getCurrencyUnit(), otherMoney.getCurrencyUnit());
         }
         return amount.compareTo(otherMoney.amount);
@@ -18,17 +18,22 @@ package org.joda.money;
 import java.io.InvalidObjectException;
 import java.io.ObjectInputStream;
 import java.io.Serializable;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Currency;
-import java.util.HashSet;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
-import java.util.Map.Entry;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.regex.Pattern;
 
 import org.joda.convert.FromString;
@@ -62,13 +67,38 @@ public final class CurrencyUnit implements Comparable<CurrencyUnit>, Serializabl
      */
     private static final ConcurrentMap<String, CurrencyUnit> currenciesByCode = new ConcurrentSkipListMap<String, CurrencyUnit>();
     /**
-     * Map of registered currencies by numeric code.
+     * Table of registered currencies by text code, indexed by the packed letters of the code.
+     * This is used for lookup, while the map provides the sorted order.
      */
-    private static final ConcurrentMap<Integer, CurrencyUnit> currenciesByNumericCode = new ConcurrentHashMap<Integer, CurrencyUnit>();
+    private static final AtomicReferenceArray<CurrencyUnit> currenciesByCodeIndex = new AtomicReferenceArray<CurrencyUnit>(26 * 26 * 26);
+    /**
+     * Table of registered currencies by numeric code, indexed by the code from 0 to 999.
+     */
+    private static final AtomicReferenceArray<CurrencyUnit> currenciesByNumericCode = new AtomicReferenceArray<CurrencyUnit>(1000);
     /**
      * Map of registered currencies by country.
      */
     private static final ConcurrentMap<String, CurrencyUnit> currenciesByCountry = new ConcurrentSkipListMap<String, CurrencyUnit>();
+    /**
+     * Map of unmodifiable sets of country codes by text code, the reverse of the map by country.
+     */
+    private static final ConcurrentMap<String, Set<String>> countryCodesByCode = new ConcurrentHashMap<String, Set<String>>();
+    /**
+     * The maximum number of locales to cache.
+     */
+    private static final int LOCALE_CACHE_SIZE = 256;
+    /**
+     * Cache of currencies by locale, replaced when a country is registered.
+     */
+    private static volatile ConcurrentMap<Locale, CurrencyUnit> currenciesByLocale = new ConcurrentHashMap<Locale, CurrencyUnit>();
+    /**
+     * Map of index by text code, guarded by the class lock.
+     */
+    private static final Map<String, Integer> indexesByCode = new HashMap<String, Integer>();
+    /**
+     * Table of registered currencies by ordinal, replaced on each registration.
+     */
+    private static volatile CurrencyUnit[] currenciesByOrdinal = new CurrencyUnit[0];
     static {
         // load one data provider by system property
         try {
@@ -134,6 +164,22 @@ public final class CurrencyUnit implements Comparable<CurrencyUnit>, Serializabl
      * The number of decimal places.
      */
     private final short decimalPlaces;
+    /**
+     * The cash rounding increment in minor units, one if cash is not rounded.
+     */
+    private final transient int cashIncrement;
+    /**
+     * The dense index, unique to the currency code.
+     */
+    private final transient int index;
+    /**
+     * The cache of small {@code Money} instances, created on first use.
+     */
+    private transient volatile Money[] moneyCache;
+    /**
+     * The cached {@code BigMoney} zero, created on first use.
+     */
+    private transient volatile BigMoney bigMoneyZero;
 
     //-----------------------------------------------------------------------
     /**
@@ -193,6 +239,44 @@ public final class CurrencyUnit implements Comparable<CurrencyUnit>, Serializabl
      */
     public static synchronized CurrencyUnit registerCurrency(
                     String currencyCode, int numericCurrencyCode, int decimalPlaces, List<String> countryCodes, boolean force) {
+        return registerCurrency(currencyCode, numericCurrencyCode, decimalPlaces, 1, countryCodes, force);
+    }
+
+    /**
+     * Registers a currency with a cash rounding increment and associated countries
+     * allowing it to be used, allowing replacement.
+     * <p>
+     * This class only permits known currencies to be returned.
+     * To achieve this, all currencies have to be registered in advance.
+     * <p>
+     * Since this method is public, it is possible to add currencies in
+     * application code. It is recommended to do this only at startup, however
+     * it is safe to do so later as the internal implementation is thread-safe.
+     * <p>
+     * This method uses a flag to determine whether the registered currency
+     * must be new, or can replace an existing currency.
+     * <p>
+     * The currency code must be three upper-case ASCII letters, based on ISO-4217.
+     * The numeric code must be from 0 to 999, or -1 if not applicable.
+     * The cash increment is the smallest amount used in cash, in minor units,
+     * such as 5 for 'CHF 0.05', or one if cash uses the same decimal places.
+     *
+     * @param currencyCode  the three-letter upper-case currency code, not null
+     * @param numericCurrencyCode  the numeric currency code, from 0 to 999, -1 if none
+     * @param decimalPlaces  the number of decimal places that the currency
+     *  normally has, from 0 to 30 (normally 0, 2 or 3), or -1 for a pseudo-currency
+     * @param cashIncrement  the smallest amount used in cash, in minor units, one or greater
+     * @param countryCodes  the country codes to register the currency under,
+     *  use of ISO-3166 is recommended, not null
+     * @param force  true to register forcefully, replacing any existing matching currency,
+     *  false to validate that there is no existing matching currency
+     * @return the new instance, never null
+     * @throws IllegalArgumentException if the code is already registered and {@code force} is false;
+     *  or if the specified data is invalid
+     */
+    public static synchronized CurrencyUnit registerCurrency(
+                    String currencyCode, int numericCurrencyCode, int decimalPlaces, int cashIncrement,
+                    List<String> countryCodes, boolean force) {
         MoneyUtils.checkNotNull(currencyCode, "Currency code must not be null");
         if (currencyCode.length() != 3) {
             throw new IllegalArgumentException("Invalid string code, must be length 3");
@@ -206,17 +290,21 @@ public final class CurrencyUnit implements Comparable<CurrencyUnit>, Serializabl
         if (decimalPlaces < -1 || decimalPlaces > 30) {
             throw new IllegalArgumentException("Invalid number of decimal places");
         }
+        if (cashIncrement < 1) {
+            throw new IllegalArgumentException("Invalid cash increment");
+        }
         MoneyUtils.checkNotNull(countryCodes, "Country codes must not be null");
         
-        CurrencyUnit currency = new CurrencyUnit(currencyCode, (short) numericCurrencyCode, (short) decimalPlaces);
         if (force) {
             currenciesByCode.remove(currencyCode);
-            currenciesByNumericCode.remove(numericCurrencyCode);
             for (String countryCode : countryCodes) {
-                currenciesByCountry.remove(countryCode);
+                CurrencyUnit removed = currenciesByCountry.remove(countryCode);
+                if (removed != null) {
+                    updateCountryCodes(removed.code, countryCode, false);
+                }
             }
         } else {
-            if (currenciesByCode.containsKey(currencyCode) || currenciesByNumericCode.containsKey(numericCurrencyCode)) {
+            if (currenciesByCode.containsKey(currencyCode) || ofNumericCodeIndex(numericCurrencyCode) != null) {
                 throw new IllegalArgumentException("Currency already registered: " + currencyCode);
             }
             for (String countryCode : countryCodes) {
@@ -225,9 +313,15 @@ public final class CurrencyUnit implements Comparable<CurrencyUnit>, Serializabl
                 }
             }
         }
+        // the ordinal is assigned on construction, thus only construct once validated
+        CurrencyUnit currency = new CurrencyUnit(currencyCode, (short) numericCurrencyCode, (short) decimalPlaces, cashIncrement);
         currenciesByCode.putIfAbsent(currencyCode, currency);
+        currenciesByCodeIndex.set(codeIndex(currencyCode), currency);
+        CurrencyUnit[] byOrdinal = Arrays.copyOf(currenciesByOrdinal, Math.max(currency.index + 1, currenciesByOrdinal.length));
+        byOrdinal[currency.index] = currency;
+        currenciesByOrdinal = byOrdinal;
         if (numericCurrencyCode >= 0) {
-            currenciesByNumericCode.putIfAbsent(numericCurrencyCode, currency);
+            currenciesByNumericCode.set(numericCurrencyCode, currency);
         }
         for (String countryCode : countryCodes) {
             registerCountry(countryCode, currency);
@@ -287,7 +381,34 @@ public final class CurrencyUnit implements Comparable<CurrencyUnit>, Serializabl
      *  or if the specified data is invalid
      */
     public static synchronized void registerCountry(String countryCode, CurrencyUnit currency) {
-        currenciesByCountry.put(countryCode, currency);
+        CurrencyUnit replaced = currenciesByCountry.put(countryCode, currency);
+        if (replaced != null) {
+            updateCountryCodes(replaced.code, countryCode, false);
+        }
+        updateCountryCodes(currency.code, countryCode, true);
+        currenciesByLocale = new ConcurrentHashMap<Locale, CurrencyUnit>();
+    }
+
+    /**
+     * Updates the set of country codes for a currency, called with the class lock held.
+     * 
+     * @param currencyCode  the currency code, not null
+     * @param countryCode  the country code, not null
+     * @param add  true to add the country code, false to remove it
+     */
+    private static void updateCountryCodes(String currencyCode, String countryCode, boolean add) {
+        Set<String> existing = countryCodesByCode.get(currencyCode);
+        Set<String> updated = (existing == null ? new TreeSet<String>() : new TreeSet<String>(existing));
+        if (add) {
+            updated.add(countryCode);
+        } else {
+            updated.remove(countryCode);
+        }
+        if (updated.isEmpty()) {
+            countryCodesByCode.remove(currencyCode);
+        } else {
+            countryCodesByCode.put(currencyCode, Collections.unmodifiableSet(updated));
+        }
     }
 
     //-----------------------------------------------------------------------
@@ -344,13 +465,85 @@ public final class CurrencyUnit implements Comparable<CurrencyUnit>, Serializabl
     @FromString
     public static CurrencyUnit of(String currencyCode) {
         MoneyUtils.checkNotNull(currencyCode, "Currency code must not be null");
-        CurrencyUnit currency = currenciesByCode.get(currencyCode);
+        CurrencyUnit currency = ofCodeIndex(codeIndex(currencyCode));
         if (currency == null) {
             throw new IllegalCurrencyException("Unknown currency '" + currencyCode + '\'');
         }
         return currency;
     }
 
+    /**
+     * Obtains an instance of {@code CurrencyUnit} for the three letter currency code
+     * at the specified position in a sequence of characters.
+     * <p>
+     * This allows a code within a larger text to be looked up without creating a {@code String}.
+     * The three characters from the offset are read, and the code must be
+     * three upper-case ASCII letters.
+     *
+     * @param text  the text containing the currency code, not null
+     * @param offset  the index of the first letter of the code
+     * @return the singleton instance, never null
+     * @throws IndexOutOfBoundsException if there are not three characters from the offset
+     * @throws IllegalCurrencyException if the currency is unknown
+     */
+    public static CurrencyUnit of(CharSequence text, int offset) {
+        MoneyUtils.checkNotNull(text, "Text must not be null");
+        checkCodeOffset(offset, text.length());
+        CurrencyUnit currency = ofCodeIndex(codeIndex(text.charAt(offset), text.charAt(offset + 1), text.charAt(offset + 2)));
+        if (currency == null) {
+            throw new IllegalCurrencyException("Unknown currency '" + text.subSequence(offset, offset + 3) + '\'');
+        }
+        return currency;
+    }
+
+    /**
+     * Obtains an instance of {@code CurrencyUnit} for the three letter currency code
+     * at the specified position in an array of characters.
+     * <p>
+     * This allows a code within a larger text to be looked up without creating a {@code String}.
+     * The three characters from the offset are read, and the code must be
+     * three upper-case ASCII letters.
+     *
+     * @param chars  the characters containing the currency code, not null
+     * @param offset  the index of the first letter of the code
+     * @return the singleton instance, never null
+     * @throws IndexOutOfBoundsException if there are not three characters from the offset
+     * @throws IllegalCurrencyException if the currency is unknown
+     */
+    public static CurrencyUnit of(char[] chars, int offset) {
+        MoneyUtils.checkNotNull(chars, "Characters must not be null");
+        checkCodeOffset(offset, chars.length);
+        CurrencyUnit currency = ofCodeIndex(codeIndex(chars[offset], chars[offset + 1], chars[offset + 2]));
+        if (currency == null) {
+            throw new IllegalCurrencyException("Unknown currency '" + new String(chars, offset, 3) + '\'');
+        }
+        return currency;
+    }
+
+    /**
+     * Obtains an instance of {@code CurrencyUnit} for the three letter currency code
+     * at the specified position in an array of ASCII bytes.
+     * <p>
+     * This allows a code within an encoded message to be looked up without creating a {@code String}.
+     * The three bytes from the offset are read, and the code must be
+     * three upper-case ASCII letters.
+     *
+     * @param bytes  the ASCII bytes containing the currency code, not null
+     * @param offset  the index of the first letter of the code
+     * @return the singleton instance, never null
+     * @throws IndexOutOfBoundsException if there are not three bytes from the offset
+     * @throws IllegalCurrencyException if the currency is unknown
+     */
+    public static CurrencyUnit of(byte[] bytes, int offset) {
+        MoneyUtils.checkNotNull(bytes, "Bytes must not be null");
+        checkCodeOffset(offset, bytes.length);
+        CurrencyUnit currency = ofCodeIndex(codeIndex(bytes[offset], bytes[offset + 1], bytes[offset + 2]));
+        if (currency == null) {
+            throw new IllegalCurrencyException("Unknown currency '" + new String(bytes, offset, 3, StandardCharsets.ISO_8859_1) + '\'');
+        }
+        return currency;
+    }
+
     /**
      * Obtains an instance of {@code CurrencyUnit} for the specified ISO-4217 numeric currency code.
      * <p>
@@ -388,17 +581,66 @@ public final class CurrencyUnit implements Comparable<CurrencyUnit>, Serializabl
      * @throws IllegalCurrencyException if the currency is unknown
      */
     public static CurrencyUnit ofNumericCode(int numericCurrencyCode) {
-        CurrencyUnit currency = currenciesByNumericCode.get(numericCurrencyCode);
+        CurrencyUnit currency = ofNumericCodeIndex(numericCurrencyCode);
         if (currency == null) {
             throw new IllegalCurrencyException("Unknown currency '" + numericCurrencyCode + '\'');
         }
         return currency;
     }
 
+    /**
+     * Obtains an instance of {@code CurrencyUnit} for the three digit ISO-4217 numeric currency code
+     * at the specified position in a sequence of characters.
+     * <p>
+     * This allows a code within a larger text to be looked up without creating a {@code String}.
+     * The three characters from the offset are read, and the code must be
+     * three ASCII digits, left padded with zeroes if necessary.
+     *
+     * @param text  the text containing the numeric currency code, not null
+     * @param offset  the index of the first digit of the code
+     * @return the singleton instance, never null
+     * @throws IndexOutOfBoundsException if there are not three characters from the offset
+     * @throws IllegalCurrencyException if the currency is unknown
+     */
+    public static CurrencyUnit ofNumericCode(CharSequence text, int offset) {
+        MoneyUtils.checkNotNull(text, "Text must not be null");
+        checkCodeOffset(offset, text.length());
+        CurrencyUnit currency = ofNumericCodeIndex(numericCodeIndex(text.charAt(offset), text.charAt(offset + 1), text.charAt(offset + 2)));
+        if (currency == null) {
+            throw new IllegalCurrencyException("Unknown currency '" + text.subSequence(offset, offset + 3) + '\'');
+        }
+        return currency;
+    }
+
+    /**
+     * Obtains an instance of {@code CurrencyUnit} for the three digit ISO-4217 numeric currency code
+     * at the specified position in an array of ASCII bytes.
+     * <p>
+     * This allows a code within an encoded message to be looked up without creating a {@code String}.
+     * The three bytes from the offset are read, and the code must be
+     * three ASCII digits, left padded with zeroes if necessary.
+     *
+     * @param bytes  the ASCII bytes containing the numeric currency code, not null
+     * @param offset  the index of the first digit of the code
+     * @return the singleton instance, never null
+     * @throws IndexOutOfBoundsException if there are not three bytes from the offset
+     * @throws IllegalCurrencyException if the currency is unknown
+     */
+    public static CurrencyUnit ofNumericCode(byte[] bytes, int offset) {
+        MoneyUtils.checkNotNull(bytes, "Bytes must not be null");
+        checkCodeOffset(offset, bytes.length);
+        CurrencyUnit currency = ofNumericCodeIndex(numericCodeIndex(bytes[offset], bytes[offset + 1], bytes[offset + 2]));
+        if (currency == null) {
+            throw new IllegalCurrencyException("Unknown currency '" + new String(bytes, offset, 3, StandardCharsets.ISO_8859_1) + '\'');
+        }
+        return currency;
+    }
+
     /**
      * Obtains an instance of {@code CurrencyUnit} for the specified locale.
      * <p>
      * Only the country is used from the locale.
+     * The results for a limited number of locales are cached.
      *
      * @param locale  the locale, not null
      * @return the singleton instance, never null
@@ -406,9 +648,17 @@ public final class CurrencyUnit implements Comparable<CurrencyUnit>, Serializabl
      */
     public static CurrencyUnit of(Locale locale) {
         MoneyUtils.checkNotNull(locale, "Locale must not be null");
-        CurrencyUnit currency = currenciesByCountry.get(locale.getCountry());
+        // the cache is read before the country, so a cache replaced by registration is never updated
+        ConcurrentMap<Locale, CurrencyUnit> cache = currenciesByLocale;
+        CurrencyUnit currency = cache.get(locale);
         if (currency == null) {
-            throw new IllegalCurrencyException("No currency found for locale '" + locale + '\'');
+            currency = currenciesByCountry.get(locale.getCountry());
+            if (currency == null) {
+                throw new IllegalCurrencyException("No currency found for locale '" + locale + '\'');
+            }
+            if (cache.size() < LOCALE_CACHE_SIZE) {
+                cache.put(locale, currency);
+            }
         }
         return currency;
     }
@@ -432,6 +682,89 @@ public final class CurrencyUnit implements Comparable<CurrencyUnit>, Serializabl
         return currency;
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Validates that there are three elements from the offset.
+     * 
+     * @param offset  the offset of the code
+     * @param length  the length of the text
+     * @throws IndexOutOfBoundsException if the offset is invalid
+     */
+    private static void checkCodeOffset(int offset, int length) {
+        if (offset < 0 || offset > length - 3) {
+            throw new IndexOutOfBoundsException("Invalid currency code offset: " + offset + ", length: " + length);
+        }
+    }
+
+    /**
+     * Gets the registered currency at the index into the table of currencies.
+     * 
+     * @param codeIndex  the index, negative if the code is invalid
+     * @return the currency, null if not registered
+     */
+    private static CurrencyUnit ofCodeIndex(int codeIndex) {
+        return (codeIndex < 0 ? null : currenciesByCodeIndex.get(codeIndex));
+    }
+
+    /**
+     * Gets the registered currency for a numeric code.
+     * 
+     * @param numericCode  the numeric code, may be outside the valid range
+     * @return the currency, null if not registered
+     */
+    private static CurrencyUnit ofNumericCodeIndex(int numericCode) {
+        return (numericCode < 0 || numericCode >= 1000 ? null : currenciesByNumericCode.get(numericCode));
+    }
+
+    /**
+     * Gets the numeric code for the digits of a three digit numeric code.
+     * 
+     * @param ch0  the first digit
+     * @param ch1  the second digit
+     * @param ch2  the third digit
+     * @return the numeric code, -1 if the characters are not ASCII digits
+     */
+    private static int numericCodeIndex(int ch0, int ch1, int ch2) {
+        int digit0 = ch0 - '0';
+        int digit1 = ch1 - '0';
+        int digit2 = ch2 - '0';
+        if (digit0 < 0 || digit0 > 9 || digit1 < 0 || digit1 > 9 || digit2 < 0 || digit2 > 9) {
+            return -1;
+        }
+        return (digit0 * 10 + digit1) * 10 + digit2;
+    }
+
+    /**
+     * Gets the index into the table of currencies for a currency code.
+     * 
+     * @param code  the currency code, not null
+     * @return the index, -1 if the code is not three upper-case ASCII letters
+     */
+    private static int codeIndex(String code) {
+        if (code.length() != 3) {
+            return -1;
+        }
+        return codeIndex(code.charAt(0), code.charAt(1), code.charAt(2));
+    }
+
+    /**
+     * Gets the index into the table of currencies for the letters of a currency code.
+     * 
+     * @param ch0  the first letter
+     * @param ch1  the second letter
+     * @param ch2  the third letter
+     * @return the index, -1 if the letters are not upper-case ASCII
+     */
+    private static int codeIndex(int ch0, int ch1, int ch2) {
+        int letter0 = ch0 - 'A';
+        int letter1 = ch1 - 'A';
+        int letter2 = ch2 - 'A';
+        if (letter0 < 0 || letter0 >= 26 || letter1 < 0 || letter1 >= 26 || letter2 < 0 || letter2 >= 26) {
+            return -1;
+        }
+        return (letter0 * 26 + letter1) * 26 + letter2;
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Constructor, creating a new currency instance.
@@ -441,10 +774,63 @@ public final class CurrencyUnit implements Comparable<CurrencyUnit>, Serializabl
      * @param decimalPlaces  the decimal places, not null
      */
     CurrencyUnit(String code, short numericCode, short decimalPlaces) {
+        this(code, numericCode, decimalPlaces, 1);
+    }
+
+    /**
+     * Constructor, creating a new currency instance.
+     * 
+     * @param code  the three-letter currency code, not null
+     * @param numericCode  the numeric currency code, from 0 to 999, -1 if none
+     * @param decimalPlaces  the decimal places, not null
+     * @param cashIncrement  the cash rounding increment in minor units, one or greater
+     */
+    CurrencyUnit(String code, short numericCode, short decimalPlaces, int cashIncrement) {
         assert code != null : "Joda-Money bug: Currency code must not be null";
         this.code = code;
         this.numericCode = numericCode;
         this.decimalPlaces = decimalPlaces;
+        this.cashIncrement = cashIncrement;
+        this.index = indexOf(code);
+    }
+
+    /**
+     * Gets the dense index for the currency code, assigning a new one if necessary.
+     * 
+     * @param code  the three-letter currency code, not null
+     * @return the index, zero or greater
+     */
+    private static synchronized int indexOf(String code) {
+        Integer index = indexesByCode.get(code);
+        if (index == null) {
+            index = indexesByCode.size();
+            indexesByCode.put(code, index);
+        }
+        return index;
+    }
+
+    /**
+     * Gets the number of indexes that have been assigned.
+     * 
+     * <p>
+     * Indexes are only assigned to registered currencies, thus this reads the
+     * table of currencies by ordinal without taking the class lock.
+     * 
+     * @return the number of indexes, one greater than the largest index
+     */
+    static int indexCount() {
+        return currenciesByOrdinal.length;
+    }
+
+    /**
+     * Gets the registered currency with the specified ordinal.
+     * 
+     * @param ordinal  the ordinal, zero or greater
+     * @return the currency, null if none registered
+     */
+    static CurrencyUnit ofOrdinal(int ordinal) {
+        CurrencyUnit[] byOrdinal = currenciesByOrdinal;
+        return (ordinal < byOrdinal.length ? byOrdinal[ordinal] : null);
     }
 
     /**
@@ -518,16 +904,57 @@ public final class CurrencyUnit implements Comparable<CurrencyUnit>, Serializabl
      * The codes are typically defined by ISO-3166.
      * An empty set indicates that no the currency is not associated with a country code.
      * 
-     * @return the country codes, may be empty, not null
+     * @return the unmodifiable, sorted set of country codes, may be empty, not null
      */
     public Set<String> getCountryCodes() {
-        Set<String> countryCodes = new HashSet<String>();
-        for (Entry<String, CurrencyUnit> entry : currenciesByCountry.entrySet()) {
-            if (this.equals(entry.getValue())) {
-                countryCodes.add(entry.getKey());
-            }
+        Set<String> countryCodes = countryCodesByCode.get(code);
+        return (countryCodes == null ? Collections.<String>emptySet() : countryCodes);
+    }
+
+    /**
+     * Gets the ordinal of this currency.
+     * <p>
+     * Each currency code is assigned a small integer when first successfully registered,
+     * starting from zero. A registration that is rejected does not assign an ordinal.
+     * The ordinal is retained if the currency is replaced, but is not stable between
+     * runs of the application, as it depends on the order of registration.
+     * This allows collections such as {@link CurrencyUnitMap} to be indexed by currency.
+     * 
+     * @return the ordinal, zero or greater
+     */
+    public int ordinal() {
+        return index;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the cache of {@code Money} instances in this currency.
+     * <p>
+     * The array is indexed by the amount in minor units and filled lazily by {@code Money}.
+     * 
+     * @return the cache, never null
+     */
+    Money[] getMoneyCache() {
+        Money[] cache = moneyCache;
+        if (cache == null) {
+            cache = new Money[Money.CACHE_SIZE];
+            moneyCache = cache;
+        }
+        return cache;
+    }
+
+    /**
+     * Gets the {@code BigMoney} instance representing zero with a scale of zero.
+     * 
+     * @return the zero instance, never null
+     */
+    BigMoney getBigMoneyZero() {
+        BigMoney zero = bigMoneyZero;
+        if (zero == null) {
+            zero = new BigMoney(this, BigDecimal.ZERO);
+            bigMoneyZero = zero;
         }
-        return countryCodes;
+        return zero;
     }
 
     //-----------------------------------------------------------------------
@@ -553,6 +980,30 @@ public final class CurrencyUnit implements Comparable<CurrencyUnit>, Serializabl
         return decimalPlaces < 0;
     }
 
+    /**
+     * Gets the smallest amount used in cash, in minor units.
+     * <p>
+     * Some currencies do not use the smallest unit in cash.
+     * For example, 'CHF' has 2 decimal places, but cash is rounded to 0.05,
+     * so this returns 5. Where cash uses every minor unit, this returns one.
+     * 
+     * @return the cash rounding increment in minor units, one or greater
+     */
+    public int getCashIncrementMinor() {
+        return cashIncrement;
+    }
+
+    /**
+     * Gets the smallest amount used in cash.
+     * <p>
+     * For example, 'CHF' returns 0.05 and 'GBP' returns 0.01.
+     * 
+     * @return the cash rounding increment at the scale of the currency, never null
+     */
+    public BigDecimal getCashIncrement() {
+        return BigDecimal.valueOf(cashIncrement, getDecimalPlaces());
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Gets the symbol for this locale from the JDK.
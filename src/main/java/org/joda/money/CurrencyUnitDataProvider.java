@@ -15,6 +15,8 @@
  */
 package org.joda.money;
 
+import java.util.Collections;
+
 /**
  * Provider for available currencies.
  */
@@ -42,6 +44,23 @@ public abstract class CurrencyUnitDataProvider {
         CurrencyUnit.registerCurrency(currencyCode, numericCurrencyCode, decimalPlaces, true);
     }
 
+    /**
+     * Registers a currency with a cash rounding increment allowing it to be used.
+     * <p>
+     * This method is called by {@link #registerCurrencies()} to perform the
+     * actual creation of a currency.
+     *
+     * @param currencyCode  the currency code, not null
+     * @param numericCurrencyCode  the numeric currency code, -1 if none
+     * @param decimalPlaces  the number of decimal places that the currency
+     *  normally has, from 0 to 3, or -1 for a pseudo-currency
+     * @param cashIncrement  the smallest amount used in cash, in minor units, one or greater
+     */
+    protected final void registerCurrency(String currencyCode, int numericCurrencyCode, int decimalPlaces, int cashIncrement) {
+        CurrencyUnit.registerCurrency(
+                currencyCode, numericCurrencyCode, decimalPlaces, cashIncrement, Collections.<String>emptyList(), true);
+    }
+
     /**
      * Registers a country allowing it to be used.
      * <p>
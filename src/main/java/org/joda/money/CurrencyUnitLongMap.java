@@ -0,0 +1,283 @@
+/*
+ *  Copyright 2009-present, Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.money;
+
+import java.util.Arrays;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * A map from currency to a primitive {@code long}, held in arrays indexed by the currency ordinal.
+ * <p>
+ * This class uses {@link CurrencyUnit#ordinal()} to find the slot for each currency,
+ * with no hashing, {@code equals} checks or boxing of the values.
+ * It is suited to totals and counts grouped by currency, such as amounts in minor units.
+ * The map grows as necessary if currencies are registered after it is created.
+ * <p>
+ * The iteration order is the order of the currency ordinals.
+ * <p>
+ * This class is mutable and not thread-safe.
+ */
+public final class CurrencyUnitLongMap {
+
+    /**
+     * The keys, indexed by ordinal, null if there is no mapping.
+     */
+    private CurrencyUnit[] keys;
+    /**
+     * The values, indexed by ordinal, zero if there is no mapping.
+     */
+    private long[] values;
+    /**
+     * The number of mappings.
+     */
+    private int size;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains an empty map.
+     *
+     * @return the new map, never null
+     */
+    public static CurrencyUnitLongMap create() {
+        return new CurrencyUnitLongMap();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Constructor.
+     */
+    private CurrencyUnitLongMap() {
+        int count = CurrencyUnit.indexCount();
+        this.keys = new CurrencyUnit[count];
+        this.values = new long[count];
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the number of mappings.
+     * 
+     * @return the size, zero or greater
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the map is empty.
+     * 
+     * @return true if there are no mappings
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Checks if the map contains a mapping for the currency.
+     * 
+     * @param currency  the currency, not null
+     * @return true if there is a mapping
+     */
+    public boolean containsKey(CurrencyUnit currency) {
+        MoneyUtils.checkNotNull(currency, "CurrencyUnit must not be null");
+        int ordinal = currency.ordinal();
+        return ordinal < keys.length && keys[ordinal] != null;
+    }
+
+    /**
+     * Gets the value for the currency.
+     * 
+     * @param currency  the currency, not null
+     * @return the value, zero if there is no mapping
+     */
+    public long get(CurrencyUnit currency) {
+        MoneyUtils.checkNotNull(currency, "CurrencyUnit must not be null");
+        int ordinal = currency.ordinal();
+        return (ordinal < values.length ? values[ordinal] : 0);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Sets the value for the currency.
+     * 
+     * @param currency  the currency, not null
+     * @param value  the value to set
+     * @return the previous value, zero if there was no mapping
+     */
+    public long put(CurrencyUnit currency, long value) {
+        int ordinal = slot(currency);
+        long old = values[ordinal];
+        values[ordinal] = value;
+        return old;
+    }
+
+    /**
+     * Adds to the value for the currency, treating a missing mapping as zero.
+     * 
+     * @param currency  the currency, not null
+     * @param valueToAdd  the value to add
+     * @return the new value
+     * @throws ArithmeticException if the value overflows a {@code long}, leaving the map unaltered
+     */
+    public long add(CurrencyUnit currency, long valueToAdd) {
+        MoneyUtils.checkNotNull(currency, "CurrencyUnit must not be null");
+        long total = Math.addExact(get(currency), valueToAdd);
+        int ordinal = slot(currency);
+        values[ordinal] = total;
+        return total;
+    }
+
+    /**
+     * Removes the mapping for the currency.
+     * 
+     * @param currency  the currency, not null
+     * @return the previous value, zero if there was no mapping
+     */
+    public long remove(CurrencyUnit currency) {
+        if (containsKey(currency) == false) {
+            return 0;
+        }
+        int ordinal = currency.ordinal();
+        long old = values[ordinal];
+        keys[ordinal] = null;
+        values[ordinal] = 0;
+        size--;
+        return old;
+    }
+
+    /**
+     * Removes all mappings.
+     */
+    public void clear() {
+        Arrays.fill(keys, null);
+        Arrays.fill(values, 0);
+        size = 0;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the set of currencies with a mapping.
+     * 
+     * @return the new set of currencies, independent of this map, never null
+     */
+    public CurrencyUnitSet keySet() {
+        CurrencyUnitSet set = CurrencyUnitSet.create();
+        for (CurrencyUnit key : keys) {
+            if (key != null) {
+                set.add(key);
+            }
+        }
+        return set;
+    }
+
+    /**
+     * Performs an action for each mapping in ordinal order.
+     * 
+     * @param action  the action to perform, not null
+     */
+    public void forEach(ObjLongConsumer<? super CurrencyUnit> action) {
+        MoneyUtils.checkNotNull(action, "Action must not be null");
+        for (int i = 0; i < keys.length; i++) {
+            CurrencyUnit key = keys[i];
+            if (key != null) {
+                action.accept(key, values[i]);
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    // gets the slot for the currency, creating the mapping with a zero value if necessary
+    private int slot(CurrencyUnit currency) {
+        MoneyUtils.checkNotNull(currency, "CurrencyUnit must not be null");
+        int ordinal = currency.ordinal();
+        if (ordinal >= keys.length) {
+            int length = Math.max(ordinal + 1, CurrencyUnit.indexCount());
+            keys = Arrays.copyOf(keys, length);
+            values = Arrays.copyOf(values, length);
+        }
+        if (keys[ordinal] == null) {
+            keys[ordinal] = currency;
+            size++;
+        }
+        return ordinal;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if this map is equal to another map.
+     * <p>
+     * The maps are equal if they have the same mappings.
+     * 
+     * @param other  the other object, null returns false
+     * @return true if this instance equals the other instance
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other instanceof CurrencyUnitLongMap) {
+            CurrencyUnitLongMap otherMap = (CurrencyUnitLongMap) other;
+            if (size != otherMap.size) {
+                return false;
+            }
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != null && (otherMap.containsKey(keys[i]) == false || otherMap.values[i] != values[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Returns a suitable hash code for the map.
+     * 
+     * @return the hash code
+     */
+    @Override
+    public int hashCode() {
+        int hash = 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) {
+                hash += keys[i].hashCode() ^ Long.hashCode(values[i]);
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Gets the map as a string.
+     * <p>
+     * The format is the currencies and values in ordinal order, such as '{GBP=12, USD=3}'.
+     * 
+     * @return the string representation of the map, never null
+     */
+    @Override
+    public String toString() {
+        StringBuilder buf = new StringBuilder().append('{');
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) {
+                if (buf.length() > 1) {
+                    buf.append(", ");
+                }
+                buf.append(keys[i]).append('=').append(values[i]);
+            }
+        }
+        return buf.append('}').toString();
+    }
+
+}
@@ -0,0 +1,270 @@
+/*
+ *  Copyright 2009-present, Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.money;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A map keyed by currency, held in an array indexed by the currency ordinal.
+ * <p>
+ * This class is similar to {@code EnumMap}, using {@link CurrencyUnit#ordinal()}
+ * to find the slot for each currency, with no hashing or {@code equals} checks.
+ * The map grows as necessary if currencies are registered after it is created.
+ * <p>
+ * The iteration order is the order of the currency ordinals.
+ * Null keys and values are not permitted.
+ * <p>
+ * This class is mutable and not thread-safe.
+ *
+ * @param <V> the type of the values
+ */
+public final class CurrencyUnitMap<V> extends AbstractMap<CurrencyUnit, V> {
+
+    /**
+     * The keys, indexed by ordinal, null if there is no mapping.
+     */
+    private CurrencyUnit[] keys;
+    /**
+     * The values, indexed by ordinal, null if there is no mapping.
+     */
+    private Object[] values;
+    /**
+     * The number of mappings.
+     */
+    private int size;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains an empty map.
+     *
+     * @param <V> the type of the values
+     * @return the new map, never null
+     */
+    public static <V> CurrencyUnitMap<V> create() {
+        return new CurrencyUnitMap<V>();
+    }
+
+    /**
+     * Obtains a map containing the mappings of another map.
+     *
+     * @param <V> the type of the values
+     * @param map  the map to copy, no null keys or values, not null
+     * @return the new map, never null
+     */
+    public static <V> CurrencyUnitMap<V> of(Map<CurrencyUnit, ? extends V> map) {
+        MoneyUtils.checkNotNull(map, "Map must not be null");
+        CurrencyUnitMap<V> result = new CurrencyUnitMap<V>();
+        result.putAll(map);
+        return result;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Constructor.
+     */
+    private CurrencyUnitMap() {
+        int count = CurrencyUnit.indexCount();
+        this.keys = new CurrencyUnit[count];
+        this.values = new Object[count];
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return slot(key) >= 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        int slot = slot(key);
+        return (slot < 0 ? null : (V) values[slot]);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V put(CurrencyUnit key, V value) {
+        MoneyUtils.checkNotNull(key, "CurrencyUnit must not be null");
+        MoneyUtils.checkNotNull(value, "Value must not be null");
+        int ordinal = key.ordinal();
+        if (ordinal >= keys.length) {
+            int length = Math.max(ordinal + 1, CurrencyUnit.indexCount());
+            keys = Arrays.copyOf(keys, length);
+            values = Arrays.copyOf(values, length);
+        }
+        V old = (V) values[ordinal];
+        if (old == null) {
+            size++;
+        }
+        keys[ordinal] = key;
+        values[ordinal] = value;
+        return old;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(Object key) {
+        int slot = slot(key);
+        if (slot < 0) {
+            return null;
+        }
+        V old = (V) values[slot];
+        removeSlot(slot);
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(keys, null);
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    @Override
+    public Set<Entry<CurrencyUnit, V>> entrySet() {
+        return new EntrySet();
+    }
+
+    //-----------------------------------------------------------------------
+    // gets the slot of the key, -1 if not present
+    private int slot(Object key) {
+        if (key instanceof CurrencyUnit) {
+            int ordinal = ((CurrencyUnit) key).ordinal();
+            if (ordinal < keys.length && keys[ordinal] != null) {
+                return ordinal;
+            }
+        }
+        return -1;
+    }
+
+    // removes the mapping in the slot
+    private void removeSlot(int slot) {
+        keys[slot] = null;
+        values[slot] = null;
+        size--;
+    }
+
+    // finds the first slot with a mapping, starting from the specified slot
+    private int nextSlot(int slot) {
+        while (slot < keys.length && keys[slot] == null) {
+            slot++;
+        }
+        return slot;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The entries of the map.
+     */
+    private final class EntrySet extends AbstractSet<Entry<CurrencyUnit, V>> {
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Iterator<Entry<CurrencyUnit, V>> iterator() {
+            return new Iterator<Entry<CurrencyUnit, V>>() {
+                private int next = nextSlot(0);
+                private int last = -1;
+
+                @Override
+                public boolean hasNext() {
+                    return next < keys.length;
+                }
+
+                @Override
+                public Entry<CurrencyUnit, V> next() {
+                    if (hasNext() == false) {
+                        throw new NoSuchElementException();
+                    }
+                    last = next;
+                    next = nextSlot(next + 1);
+                    return new MapEntry(last);
+                }
+
+                @Override
+                public void remove() {
+                    if (last < 0 || keys[last] == null) {
+                        throw new IllegalStateException();
+                    }
+                    removeSlot(last);
+                    last = -1;
+                }
+            };
+        }
+    }
+
+    /**
+     * An entry of the map, writing through to the map.
+     */
+    private final class MapEntry implements Entry<CurrencyUnit, V> {
+        private final int slot;
+        private final CurrencyUnit key;
+
+        private MapEntry(int slot) {
+            this.slot = slot;
+            this.key = keys[slot];
+        }
+
+        @Override
+        public CurrencyUnit getKey() {
+            return key;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V getValue() {
+            return (V) values[slot];
+        }
+
+        @Override
+        public V setValue(V value) {
+            return put(key, value);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other instanceof Entry) {
+                Entry<?, ?> otherEntry = (Entry<?, ?>) other;
+                return key.equals(otherEntry.getKey()) && getValue().equals(otherEntry.getValue());
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return key.hashCode() ^ getValue().hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + getValue();
+        }
+    }
+
+}
@@ -0,0 +1,193 @@
+/*
+ *  Copyright 2009-present, Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.money;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A set of currencies, held as a bit set indexed by the currency ordinal.
+ * <p>
+ * This class is similar to {@code EnumSet}, using {@link CurrencyUnit#ordinal()}
+ * to find the bit for each currency, with no hashing or {@code equals} checks.
+ * Each registered currency uses one bit of memory.
+ * The set grows as necessary if currencies are registered after it is created.
+ * <p>
+ * The iteration order is the order of the currency ordinals.
+ * Null elements are not permitted.
+ * <p>
+ * This class is mutable and not thread-safe.
+ */
+public final class CurrencyUnitSet extends AbstractSet<CurrencyUnit> {
+
+    /**
+     * The bits, indexed by ordinal.
+     */
+    private long[] bits;
+    /**
+     * The number of currencies in the set.
+     */
+    private int size;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains an empty set.
+     *
+     * @return the new set, never null
+     */
+    public static CurrencyUnitSet create() {
+        return new CurrencyUnitSet();
+    }
+
+    /**
+     * Obtains a set containing the specified currencies.
+     *
+     * @param currencies  the currencies, no null elements, not null
+     * @return the new set, never null
+     */
+    public static CurrencyUnitSet of(CurrencyUnit... currencies) {
+        MoneyUtils.checkNotNull(currencies, "CurrencyUnit array must not be null");
+        return of(Arrays.asList(currencies));
+    }
+
+    /**
+     * Obtains a set containing the specified currencies.
+     *
+     * @param currencies  the currencies, no null elements, not null
+     * @return the new set, never null
+     */
+    public static CurrencyUnitSet of(Collection<CurrencyUnit> currencies) {
+        MoneyUtils.checkNotNull(currencies, "CurrencyUnit collection must not be null");
+        CurrencyUnitSet result = new CurrencyUnitSet();
+        result.addAll(currencies);
+        return result;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Constructor.
+     */
+    private CurrencyUnitSet() {
+        this.bits = new long[(CurrencyUnit.indexCount() + 63) >>> 6];
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean contains(Object obj) {
+        if (obj instanceof CurrencyUnit) {
+            int ordinal = ((CurrencyUnit) obj).ordinal();
+            int word = ordinal >>> 6;
+            return word < bits.length && (bits[word] & (1L << ordinal)) != 0;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean add(CurrencyUnit currency) {
+        MoneyUtils.checkNotNull(currency, "CurrencyUnit must not be null");
+        int ordinal = currency.ordinal();
+        int word = ordinal >>> 6;
+        if (word >= bits.length) {
+            bits = Arrays.copyOf(bits, Math.max(word + 1, (CurrencyUnit.indexCount() + 63) >>> 6));
+        }
+        long old = bits[word];
+        bits[word] = old | (1L << ordinal);
+        if (old == bits[word]) {
+            return false;
+        }
+        size++;
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object obj) {
+        if (contains(obj)) {
+            removeOrdinal(((CurrencyUnit) obj).ordinal());
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(bits, 0);
+        size = 0;
+    }
+
+    @Override
+    public Iterator<CurrencyUnit> iterator() {
+        return new Iterator<CurrencyUnit>() {
+            private int next = nextOrdinal(0);
+            private int last = -1;
+
+            @Override
+            public boolean hasNext() {
+                return next >= 0;
+            }
+
+            @Override
+            public CurrencyUnit next() {
+                if (next < 0) {
+                    throw new NoSuchElementException();
+                }
+                last = next;
+                next = nextOrdinal(next + 1);
+                return CurrencyUnit.ofOrdinal(last);
+            }
+
+            @Override
+            public void remove() {
+                if (last < 0) {
+                    throw new IllegalStateException();
+                }
+                removeOrdinal(last);
+                last = -1;
+            }
+        };
+    }
+
+    //-----------------------------------------------------------------------
+    // removes the ordinal, which must be present
+    private void removeOrdinal(int ordinal) {
+        bits[ordinal >>> 6] &= ~(1L << ordinal);
+        size--;
+    }
+
+    // finds the first ordinal in the set, starting from the specified ordinal, -1 if none
+    private int nextOrdinal(int ordinal) {
+        int word = ordinal >>> 6;
+        if (word >= bits.length) {
+            return -1;
+        }
+        long remaining = bits[word] & (-1L << ordinal);
+        while (remaining == 0) {
+            if (++word >= bits.length) {
+                return -1;
+            }
+            remaining = bits[word];
+        }
+        return (word << 6) + Long.numberOfTrailingZeros(remaining);
+    }
+
+}
@@ -42,7 +42,7 @@ import java.util.regex.Pattern;
 class DefaultCurrencyUnitDataProvider extends CurrencyUnitDataProvider {
 
     /** Regex format for the money csv line. */
-    private static final Pattern CURRENCY_REGEX_LINE = Pattern.compile("([A-Z]{3}),(-1|[0-9]{1,3}),(-1|[0-9]|[1-2][0-9]|30) *(#.*)?");
+    private static final Pattern CURRENCY_REGEX_LINE = Pattern.compile("([A-Z]{3}),(-1|[0-9]{1,3}),(-1|[0-9]|[1-2][0-9]|30)(?:,([1-9][0-9]{0,8}))? *(#.*)?");
     /** Regex format for the country csv line. */
     private static final Pattern COUNTRY_REGEX_LINE = Pattern.compile("([A-Z]{2}),([A-Z]{3}) *(#.*)?");
 
@@ -100,7 +100,8 @@ class DefaultCurrencyUnitDataProvider extends CurrencyUnitDataProvider {
                 String currencyCode = matcher.group(1);
                 int numericCode = Integer.parseInt(matcher.group(2));
                 int digits = Integer.parseInt(matcher.group(3));
-                registerCurrency(currencyCode, numericCode, digits);
+                int cashIncrement = (matcher.group(4) != null ? Integer.parseInt(matcher.group(4)) : 1);
+                registerCurrency(currencyCode, numericCode, digits, cashIncrement);
             }
         }
     }
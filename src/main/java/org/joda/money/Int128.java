@@ -0,0 +1,252 @@
+/*
+ *  Copyright 2009-present, Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.money;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * A package scoped immutable signed 128-bit integer.
+ * <p>
+ * This is used to hold amounts that are too large for a {@code long},
+ * such as those of currencies with many decimal places, without using {@code BigDecimal}.
+ * Arithmetic is exact, throwing {@code ArithmeticException} if the result
+ * is too large for 128 bits, allowing the caller to fall back to {@code BigDecimal}.
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+final class Int128 implements Comparable<Int128> {
+
+    /**
+     * Mask for the low 32 bits.
+     */
+    private static final long MASK_32 = 0xFFFF_FFFFL;
+
+    /**
+     * The high 64 bits, signed.
+     */
+    private final long hi;
+    /**
+     * The low 64 bits, unsigned.
+     */
+    private final long lo;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains an instance from a {@code long}.
+     * 
+     * @param value  the value
+     * @return the instance, never null
+     */
+    static Int128 of(long value) {
+        return new Int128(value >> 63, value);
+    }
+
+    /**
+     * Obtains an instance from a {@code BigInteger}.
+     * 
+     * @param value  the value, bit length less than 128, not null
+     * @return the instance, never null
+     */
+    static Int128 of(BigInteger value) {
+        assert value.bitLength() < 128 : "Joda-Money bug: Value must fit in 128 bits";
+        return new Int128(value.shiftRight(64).longValue(), value.longValue());
+    }
+
+    /**
+     * Constructor.
+     * 
+     * @param hi  the high 64 bits
+     * @param lo  the low 64 bits
+     */
+    private Int128(long hi, long lo) {
+        this.hi = hi;
+        this.lo = lo;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if the value fits in a {@code long}.
+     * 
+     * @return true if {@link #longValue()} is exact
+     */
+    boolean isLong() {
+        return hi == (lo >> 63);
+    }
+
+    /**
+     * Gets the low 64 bits as a {@code long}.
+     * 
+     * @return the value, only exact if {@link #isLong()} is true
+     */
+    long longValue() {
+        return lo;
+    }
+
+    /**
+     * Gets the sign of the value.
+     * 
+     * @return -1, 0 or 1
+     */
+    int signum() {
+        if (hi != 0) {
+            return (hi < 0 ? -1 : 1);
+        }
+        return (lo != 0 ? 1 : 0);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Adds another value.
+     * 
+     * @param other  the value to add, not null
+     * @return the sum, never null
+     * @throws ArithmeticException if the result is too large for 128 bits
+     */
+    Int128 plus(Int128 other) {
+        long newLo = lo + other.lo;
+        long carry = (Long.compareUnsigned(newLo, lo) < 0 ? 1 : 0);
+        long newHi = hi + other.hi + carry;
+        if (((hi ^ newHi) & (other.hi ^ newHi)) < 0) {
+            throw new ArithmeticException("Overflow");
+        }
+        return new Int128(newHi, newLo);
+    }
+
+    /**
+     * Subtracts another value.
+     * 
+     * @param other  the value to subtract, not null
+     * @return the difference, never null
+     * @throws ArithmeticException if the result is too large for 128 bits
+     */
+    Int128 minus(Int128 other) {
+        long newLo = lo - other.lo;
+        long borrow = (Long.compareUnsigned(lo, other.lo) < 0 ? 1 : 0);
+        long newHi = hi - other.hi - borrow;
+        if (((hi ^ other.hi) & (hi ^ newHi)) < 0) {
+            throw new ArithmeticException("Overflow");
+        }
+        return new Int128(newHi, newLo);
+    }
+
+    /**
+     * Negates the value.
+     * 
+     * @return the negated value, never null
+     * @throws ArithmeticException if the result is too large for 128 bits
+     */
+    Int128 negated() {
+        if (hi == Long.MIN_VALUE && lo == 0) {
+            throw new ArithmeticException("Overflow");
+        }
+        return new Int128(~hi + (lo == 0 ? 1 : 0), -lo);
+    }
+
+    /**
+     * Multiplies by a {@code long}.
+     * 
+     * @param multiplier  the value to multiply by
+     * @return the product, never null
+     * @throws ArithmeticException if the result is too large for 128 bits
+     */
+    Int128 multipliedBy(long multiplier) {
+        if (multiplier == 1) {
+            return this;
+        }
+        if (multiplier == 0) {
+            return of(0);
+        }
+        if (multiplier == Long.MIN_VALUE) {
+            throw new ArithmeticException("Overflow");
+        }
+        boolean negative = (hi < 0) != (multiplier < 0);
+        Int128 abs = (hi < 0 ? negated() : this);
+        long absMultiplier = Math.abs(multiplier);
+        long newLo = abs.lo * absMultiplier;
+        long newHi = Math.addExact(Math.multiplyExact(abs.hi, absMultiplier), multiplyHighUnsigned(abs.lo, absMultiplier));
+        Int128 product = new Int128(newHi, newLo);
+        return (negative ? product.negated() : product);
+    }
+
+    // the high 64 bits of the unsigned 128 bit product of two unsigned longs
+    private static long multiplyHighUnsigned(long a, long b) {
+        long a1 = a >>> 32;
+        long a0 = a & MASK_32;
+        long b1 = b >>> 32;
+        long b0 = b & MASK_32;
+        long p00 = a0 * b0;
+        long p01 = a0 * b1;
+        long p10 = a1 * b0;
+        long middle = (p00 >>> 32) + (p01 & MASK_32) + (p10 & MASK_32);
+        return a1 * b1 + (p01 >>> 32) + (p10 >>> 32) + (middle >>> 32);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Converts to a {@code BigInteger}.
+     * 
+     * @return the value, never null
+     */
+    BigInteger toBigInteger() {
+        byte[] bytes = new byte[16];
+        for (int i = 0; i < 8; i++) {
+            bytes[i] = (byte) (hi >>> (56 - i * 8));
+            bytes[i + 8] = (byte) (lo >>> (56 - i * 8));
+        }
+        return new BigInteger(bytes);
+    }
+
+    /**
+     * Converts to a {@code BigDecimal} with the specified scale.
+     * 
+     * @param scale  the scale
+     * @return the value, never null
+     */
+    BigDecimal toBigDecimal(int scale) {
+        return new BigDecimal(toBigInteger(), scale);
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public int compareTo(Int128 other) {
+        int cmp = Long.compare(hi, other.hi);
+        return (cmp != 0 ? cmp : Long.compareUnsigned(lo, other.lo));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other instanceof Int128) {
+            Int128 otherValue = (Int128) other;
+            return hi == otherValue.hi && lo == otherValue.lo;
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(hi) * 31 + Long.hashCode(lo);
+    }
+
+    @Override
+    public String toString() {
+        return toBigInteger().toString();
+    }
+
+}
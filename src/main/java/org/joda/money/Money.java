@@ -19,9 +19,13 @@ import java.io.InvalidObjectException;
 import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.math.RoundingMode;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import org.joda.convert.FromString;
 import org.joda.convert.ToString;
@@ -29,8 +33,9 @@ import org.joda.convert.ToString;
 /**
  * An amount of money with the standard decimal places defined by the currency.
  * <p>
- * This class represents a quantity of money, stored as a {@code BigDecimal} amount
- * in a single {@link CurrencyUnit currency}.
+ * This class represents a quantity of money in a single {@link CurrencyUnit currency}.
+ * The amount is held in minor units of the currency, stored as a {@code long} where it fits,
+ * otherwise as a 128-bit integer, falling back to a {@code BigDecimal} for larger amounts.
  * <p>
  * Every currency has a certain standard number of decimal places.
  * This is typically 2 (Euro, British Pound, US Dollar) but might be
@@ -49,11 +54,28 @@ public final class Money implements BigMoneyProvider, Comparable<BigMoneyProvide
      * The serialisation version.
      */
     private static final long serialVersionUID = 1L;
+    /**
+     * The number of small amounts, in minor units from zero, cached per currency.
+     */
+    static final int CACHE_SIZE = 256;
 
     /**
-     * The money, not null.
+     * The currency, not null.
      */
-    private final BigMoney money;
+    private final CurrencyUnit currency;
+    /**
+     * The amount in terms of the currency scale, only valid if {@code wideAmount} and {@code bigAmount} are null.
+     */
+    private final long amount;
+    /**
+     * The amount in terms of the currency scale, only set if the amount is too large
+     * for a {@code long} but fits in 128 bits, may be null.
+     */
+    private final Int128 wideAmount;
+    /**
+     * The amount, only set if the amount is too large for 128 bits, may be null.
+     */
+    private final BigDecimal bigAmount;
 
     //-----------------------------------------------------------------------
     /**
@@ -95,7 +117,17 @@ public final class Money implements BigMoneyProvider, Comparable<BigMoneyProvide
         MoneyUtils.checkNotNull(amount, "Amount must not be null");
         MoneyUtils.checkNotNull(roundingMode, "RoundingMode must not be null");
         amount = amount.setScale(currency.getDecimalPlaces(), roundingMode);
-        return new Money(BigMoney.of(currency, amount));
+        if (amount.getClass() != BigDecimal.class) {
+            return new Money(BigMoney.of(currency, amount));
+        }
+        BigInteger unscaled = amount.unscaledValue();
+        if (unscaled.bitLength() < Long.SIZE) {
+            return Money.create(currency, unscaled.longValue());
+        }
+        if (unscaled.bitLength() < 128) {
+            return new Money(currency, Int128.of(unscaled));
+        }
+        return new Money(currency, amount);
     }
 
     //-----------------------------------------------------------------------
@@ -119,7 +151,12 @@ public final class Money implements BigMoneyProvider, Comparable<BigMoneyProvide
      * @throws ArithmeticException if the scale exceeds the currency scale
      */
     public static Money of(CurrencyUnit currency, double amount) {
-        return Money.of(currency, BigDecimal.valueOf(amount));
+        MoneyUtils.checkNotNull(currency, "Currency must not be null");
+        long unscaled = MoneyMath.toUnscaledLong(amount, currency.getDecimalPlaces());
+        if (unscaled != MoneyMath.NOT_EXACT) {
+            return Money.create(currency, unscaled);
+        }
+        return Money.of(currency, MoneyMath.toBigDecimal(amount));
     }
 
     /**
@@ -143,7 +180,13 @@ public final class Money implements BigMoneyProvider, Comparable<BigMoneyProvide
      * @throws ArithmeticException if the rounding fails
      */
     public static Money of(CurrencyUnit currency, double amount, RoundingMode roundingMode) {
-        return Money.of(currency, BigDecimal.valueOf(amount), roundingMode);
+        MoneyUtils.checkNotNull(currency, "CurrencyUnit must not be null");
+        MoneyUtils.checkNotNull(roundingMode, "RoundingMode must not be null");
+        long unscaled = MoneyMath.toUnscaledLong(amount, currency.getDecimalPlaces());
+        if (unscaled != MoneyMath.NOT_EXACT) {
+            return Money.create(currency, unscaled);
+        }
+        return Money.of(currency, MoneyMath.toBigDecimal(amount), roundingMode);
     }
 
     //-----------------------------------------------------------------------
@@ -160,6 +203,15 @@ public final class Money implements BigMoneyProvider, Comparable<BigMoneyProvide
      * @return the new instance, never null
      */
     public static Money ofMajor(CurrencyUnit currency, long amountMajor) {
+        MoneyUtils.checkNotNull(currency, "CurrencyUnit must not be null");
+        int scale = currency.getDecimalPlaces();
+        if (MoneyMath.isPowerOfTenLong(scale)) {
+            try {
+                return Money.create(currency, Math.multiplyExact(amountMajor, MoneyMath.powerOfTen(scale)));
+            } catch (ArithmeticException ex) {
+                // too large for a long, fall through
+            }
+        }
         return Money.of(currency, BigDecimal.valueOf(amountMajor), RoundingMode.UNNECESSARY);
     }
 
@@ -177,7 +229,8 @@ public final class Money implements BigMoneyProvider, Comparable<BigMoneyProvide
      * @return the new instance, never null
      */
     public static Money ofMinor(CurrencyUnit currency, long amountMinor) {
-        return new Money(BigMoney.ofMinor(currency, amountMinor));
+        MoneyUtils.checkNotNull(currency, "CurrencyUnit must not be null");
+        return Money.create(currency, amountMinor);
     }
 
     //-----------------------------------------------------------------------
@@ -191,8 +244,7 @@ public final class Money implements BigMoneyProvider, Comparable<BigMoneyProvide
      */
     public static Money zero(CurrencyUnit currency) {
         MoneyUtils.checkNotNull(currency, "Currency must not be null");
-        BigDecimal bd = BigDecimal.valueOf(0, currency.getDecimalPlaces());
-        return new Money(BigMoney.of(currency, bd));
+        return Money.create(currency, 0);
     }
 
     //-----------------------------------------------------------------------
@@ -316,6 +368,41 @@ public final class Money implements BigMoneyProvider, Comparable<BigMoneyProvide
         return Money.zero(currency).plus(monies);
     }
 
+    /**
+     * Obtains an instance of {@code Money} as the total value of
+     * a possibly empty list, using the common fork/join pool.
+     * <p>
+     * The result is the same as {@link #total(CurrencyUnit, Iterable)}.
+     * A large random access list is split into chunks that are totalled in parallel.
+     * 
+     * @param currency  the currency to total in, not null
+     * @param monies  the monetary values to total, no null elements, not null
+     * @return the total, never null
+     * @throws CurrencyMismatchException if the currencies differ
+     */
+    public static Money totalParallel(CurrencyUnit currency, List<Money> monies) {
+        return totalParallel(currency, monies, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Obtains an instance of {@code Money} as the total value of
+     * a possibly empty list, using the specified fork/join pool.
+     * <p>
+     * The result is the same as {@link #total(CurrencyUnit, Iterable)}.
+     * A large random access list is split into chunks that are totalled in parallel.
+     * 
+     * @param currency  the currency to total in, not null
+     * @param monies  the monetary values to total, no null elements, not null
+     * @param pool  the pool to total in, not null
+     * @return the total, never null
+     * @throws CurrencyMismatchException if the currencies differ
+     */
+    public static Money totalParallel(CurrencyUnit currency, List<Money> monies, ForkJoinPool pool) {
+        MoneyUtils.checkNotNull(monies, "Money list must not be null");
+        MoneyUtils.checkNotNull(pool, "ForkJoinPool must not be null");
+        return MoneyTotalTask.total(monies, MoneyCollectors.summingMoney(currency), pool);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Parses an instance of {@code Money} from a string.
@@ -340,13 +427,38 @@ public final class Money implements BigMoneyProvider, Comparable<BigMoneyProvide
         return Money.of(BigMoney.parse(moneyStr));
     }
 
+    /**
+     * Obtains an instance of {@code Money} from an amount in terms of the currency scale.
+     * <p>
+     * Small positive amounts are shared using a cache held by the currency.
+     *
+     * @param currency  the currency, not null
+     * @param amount  the amount in terms of the currency scale
+     * @return the instance, never null
+     */
+    private static Money create(CurrencyUnit currency, long amount) {
+        if (amount >= 0 && amount < CACHE_SIZE) {
+            Money[] cache = currency.getMoneyCache();
+            Money cached = cache[(int) amount];
+            if (cached == null) {
+                cached = new Money(currency, amount);
+                cache[(int) amount] = cached;
+            }
+            return cached;
+        }
+        return new Money(currency, amount);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Private no-args constructor, for use as JPA Embeddable (for example).
      */
     @SuppressWarnings("unused")
     private Money() {
-        this.money = null;
+        this.currency = null;
+        this.amount = 0;
+        this.wideAmount = null;
+        this.bigAmount = null;
     }
 
     /**
@@ -357,7 +469,66 @@ public final class Money implements BigMoneyProvider, Comparable<BigMoneyProvide
     Money(BigMoney money) {
         assert money != null : "Joda-Money bug: BigMoney must not be null";
         assert money.isCurrencyScale() : "Joda-Money bug: Only currency scale is valid for Money";
-        this.money = money;
+        this.currency = money.getCurrencyUnit();
+        BigInteger unscaled = money.getAmount().unscaledValue();
+        if (unscaled.bitLength() < Long.SIZE) {
+            this.amount = unscaled.longValue();
+            this.wideAmount = null;
+            this.bigAmount = null;
+        } else if (unscaled.bitLength() < 128) {
+            this.amount = 0;
+            this.wideAmount = Int128.of(unscaled);
+            this.bigAmount = null;
+        } else {
+            this.amount = 0;
+            this.wideAmount = null;
+            this.bigAmount = money.getAmount();
+        }
+    }
+
+    /**
+     * Constructor, creating a new monetary instance.
+     * 
+     * @param currency  the currency to use, not null
+     * @param amount  the amount in terms of the currency scale
+     */
+    Money(CurrencyUnit currency, long amount) {
+        assert currency != null : "Joda-Money bug: Currency must not be null";
+        this.currency = currency;
+        this.amount = amount;
+        this.wideAmount = null;
+        this.bigAmount = null;
+    }
+
+    /**
+     * Constructor, creating a new monetary instance.
+     * 
+     * @param currency  the currency to use, not null
+     * @param amount  the amount in terms of the currency scale, too large for a {@code long}, not null
+     */
+    private Money(CurrencyUnit currency, Int128 amount) {
+        assert currency != null : "Joda-Money bug: Currency must not be null";
+        assert amount.isLong() == false : "Joda-Money bug: Amount must not fit in a long";
+        this.currency = currency;
+        this.amount = 0;
+        this.wideAmount = amount;
+        this.bigAmount = null;
+    }
+
+    /**
+     * Constructor, creating a new monetary instance.
+     * 
+     * @param currency  the currency to use, not null
+     * @param amount  the amount at the currency scale, too large for 128 bits, not null
+     */
+    private Money(CurrencyUnit currency, BigDecimal amount) {
+        assert currency != null : "Joda-Money bug: Currency must not be null";
+        assert amount.scale() == currency.getDecimalPlaces() : "Joda-Money bug: Only currency scale is valid for Money";
+        assert amount.unscaledValue().bitLength() >= 128 : "Joda-Money bug: Amount must not fit in 128 bits";
+        this.currency = currency;
+        this.amount = 0;
+        this.wideAmount = null;
+        this.bigAmount = amount;
     }
 
     /**
@@ -389,10 +560,90 @@ public final class Money implements BigMoneyProvider, Comparable<BigMoneyProvide
      * @return the new instance, never null
      */
     private Money with(BigMoney newInstance) {
-        if (money.equals(newInstance)) {
+        Money newMoney = new Money(newInstance);
+        if (equals(newMoney)) {
             return this;
         }
-        return new Money(newInstance);
+        return newMoney;
+    }
+
+    /**
+     * Returns a new {@code Money} in this currency, returning {@code this} if possible.
+     * <p>
+     * This instance is immutable and unaffected by this method.
+     * 
+     * @param newAmount  the new amount in terms of the currency scale
+     * @return the new instance, never null
+     */
+    private Money with(long newAmount) {
+        if (newAmount == amount && isAmountLong()) {
+            return this;
+        }
+        return Money.create(currency, newAmount);
+    }
+
+    /**
+     * Returns a new {@code Money} in this currency, returning {@code this} if possible.
+     * <p>
+     * This instance is immutable and unaffected by this method.
+     * 
+     * @param newAmount  the new amount in terms of the currency scale, not null
+     * @return the new instance, never null
+     */
+    private Money with(Int128 newAmount) {
+        if (newAmount.isLong()) {
+            return with(newAmount.longValue());
+        }
+        if (newAmount.equals(wideAmount)) {
+            return this;
+        }
+        return new Money(currency, newAmount);
+    }
+
+    /**
+     * Checks if both this and the specified money use the {@code long} amount
+     * in the same currency instance, allowing the amounts to be used directly.
+     * 
+     * @param other  the other money, may be null
+     * @return true if the {@code long} amounts can be combined
+     */
+    private boolean isLongCompatible(Money other) {
+        return isAmountLong() && other != null && other.isAmountLong() && currency == other.currency;
+    }
+
+    /**
+     * Checks if both this and the specified money fit in 128 bits
+     * in the same currency instance, allowing the amounts to be used as {@code Int128}.
+     * 
+     * @param other  the other money, may be null
+     * @return true if the amounts can be combined as {@code Int128}
+     */
+    private boolean isWideCompatible(Money other) {
+        return bigAmount == null && other != null && other.bigAmount == null && currency == other.currency;
+    }
+
+    /**
+     * Gets the amount as an {@code Int128}, only valid if {@code bigAmount} is null.
+     * 
+     * @return the amount in terms of the currency scale, never null
+     */
+    private Int128 toInt128() {
+        return (wideAmount != null ? wideAmount : Int128.of(amount));
+    }
+
+    /**
+     * Gets the sign of the amount.
+     * 
+     * @return -1, 0 or 1
+     */
+    private int signum() {
+        if (wideAmount != null) {
+            return wideAmount.signum();
+        }
+        if (bigAmount != null) {
+            return bigAmount.signum();
+        }
+        return Long.signum(amount);
     }
 
     //-----------------------------------------------------------------------
@@ -402,7 +653,28 @@ public final class Money implements BigMoneyProvider, Comparable<BigMoneyProvide
      * @return the currency, never null
      */
     public CurrencyUnit getCurrencyUnit() {
-        return money.getCurrencyUnit();
+        return currency;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if the amount is held as a {@code long} in terms of the currency scale.
+     * 
+     * @return true if {@link #getAmountLong()} may be used
+     */
+    boolean isAmountLong() {
+        return wideAmount == null && bigAmount == null;
+    }
+
+    /**
+     * Gets the amount as a {@code long} in terms of the currency scale.
+     * <p>
+     * This must only be called if {@link #isAmountLong()} returns true.
+     * 
+     * @return the amount in terms of the currency scale
+     */
+    long getAmountLong() {
+        return amount;
     }
 
     //-----------------------------------------------------------------------
@@ -439,7 +711,12 @@ public final class Money implements BigMoneyProvider, Comparable<BigMoneyProvide
      * @throws ArithmeticException if the rounding fails
      */
     public Money withCurrencyUnit(CurrencyUnit currency, RoundingMode roundingMode) {
-        return with(money.withCurrencyUnit(currency).withCurrencyScale(roundingMode));
+        MoneyUtils.checkNotNull(currency, "CurrencyUnit must not be null");
+        MoneyUtils.checkNotNull(roundingMode, "RoundingMode must not be null");
+        if (isAmountLong() && currency.getDecimalPlaces() == getScale()) {
+            return (this.currency.equals(currency) ? this : Money.create(currency, amount));
+        }
+        return with(toBigMoney().withCurrencyUnit(currency).withCurrencyScale(roundingMode));
     }
 
     //-----------------------------------------------------------------------
@@ -456,7 +733,7 @@ public final class Money implements BigMoneyProvider, Comparable<BigMoneyProvide
      * @return the scale in use, typically 2 but could be 0, 1 and 3
      */
     public int getScale() {
-        return money.getScale();
+        return currency.getDecimalPlaces();
     }
 
     //-----------------------------------------------------------------------
@@ -469,7 +746,13 @@ public final class Money implements BigMoneyProvider, Comparable<BigMoneyProvide
      * @return the amount, never null
      */
     public BigDecimal getAmount() {
-        return money.getAmount();
+        if (wideAmount != null) {
+            return wideAmount.toBigDecimal(getScale());
+        }
+        if (bigAmount != null) {
+            return bigAmount;
+        }
+        return BigDecimal.valueOf(amount, getScale());
     }
 
     /**
@@ -486,7 +769,11 @@ public final class Money implements BigMoneyProvider, Comparable<BigMoneyProvide
      * @return the major units part of the amount, never null
      */
     public BigDecimal getAmountMajor() {
-        return money.getAmountMajor();
+        long divisor = majorDivisor();
+        if (divisor == 0) {
+            return toBigMoney().getAmountMajor();
+        }
+        return BigDecimal.valueOf(amount / divisor);
     }
 
     /**
@@ -500,7 +787,11 @@ public final class Money implements BigMoneyProvider, Comparable<BigMoneyProvide
      * @throws ArithmeticException if the amount is too large for a {@code long}
      */
     public long getAmountMajorLong() {
-        return money.getAmountMajorLong();
+        long divisor = majorDivisor();
+        if (divisor == 0) {
+            return toBigMoney().getAmountMajorLong();
+        }
+        return amount / divisor;
     }
 
     /**
@@ -514,7 +805,11 @@ public final class Money implements BigMoneyProvider, Comparable<BigMoneyProvide
      * @throws ArithmeticException if the amount is too large for an {@code int}
      */
     public int getAmountMajorInt() {
-        return money.getAmountMajorInt();
+        long divisor = majorDivisor();
+        if (divisor == 0) {
+            return toBigMoney().getAmountMajorInt();
+        }
+        return Math.toIntExact(amount / divisor);
     }
 
     /**
@@ -531,7 +826,10 @@ public final class Money implements BigMoneyProvider, Comparable<BigMoneyProvide
      * @return the minor units part of the amount, never null
      */
     public BigDecimal getAmountMinor() {
-        return money.getAmountMinor();
+        if (isAmountLong() == false) {
+            return toBigMoney().getAmountMinor();
+        }
+        return BigDecimal.valueOf(amount);
     }
 
     /**
@@ -545,7 +843,10 @@ public final class Money implements BigMoneyProvider, Comparable<BigMoneyProvide
      * @throws ArithmeticException if the amount is too large for a {@code long}
      */
     public long getAmountMinorLong() {
-        return money.getAmountMinorLong();
+        if (isAmountLong() == false) {
+            return toBigMoney().getAmountMinorLong();
+        }
+        return amount;
     }
 
     /**
@@ -559,7 +860,10 @@ public final class Money implements BigMoneyProvider, Comparable<BigMoneyProvide
      * @throws ArithmeticException if the amount is too large for an {@code int}
      */
     public int getAmountMinorInt() {
-        return money.getAmountMinorInt();
+        if (isAmountLong() == false) {
+            return toBigMoney().getAmountMinorInt();
+        }
+        return Math.toIntExact(amount);
     }
 
     /**
@@ -575,7 +879,20 @@ public final class Money implements BigMoneyProvider, Comparable<BigMoneyProvide
      * @return the minor part of the amount, negative if the amount is negative
      */
     public int getMinorPart() {
-        return money.getMinorPart();
+        long divisor = majorDivisor();
+        if (divisor == 0) {
+            return toBigMoney().getMinorPart();
+        }
+        return Math.toIntExact(amount % divisor);
+    }
+
+    // gets the number of minor units in a major unit, zero if the amount is not a long
+    private long majorDivisor() {
+        int scale = currency.getDecimalPlaces();
+        if (isAmountLong() && MoneyMath.isPowerOfTenLong(scale)) {
+            return MoneyMath.powerOfTen(scale);
+        }
+        return 0;
     }
 
     //-----------------------------------------------------------------------
@@ -585,7 +902,10 @@ public final class Money implements BigMoneyProvider, Comparable<BigMoneyProvide
      * @return true if the amount is zero
      */
     public boolean isZero() {
-        return money.isZero();
+        if (isAmountLong() == false) {
+            return signum() == 0;
+        }
+        return amount == 0;
     }
 
     /**
@@ -594,7 +914,10 @@ public final class Money implements BigMoneyProvider, Comparable<BigMoneyProvide
      * @return true if the amount is greater than zero
      */
     public boolean isPositive() {
-        return money.isPositive();
+        if (isAmountLong() == false) {
+            return signum() > 0;
+        }
+        return amount > 0;
     }
 
     /**
@@ -603,7 +926,10 @@ public final class Money implements BigMoneyProvider, Comparable<BigMoneyProvide
      * @return true if the amount is zero or greater
      */
     public boolean isPositiveOrZero() {
-        return money.isPositiveOrZero();
+        if (isAmountLong() == false) {
+            return signum() >= 0;
+        }
+        return amount >= 0;
     }
 
     /**
@@ -612,7 +938,10 @@ public final class Money implements BigMoneyProvider, Comparable<BigMoneyProvide
      * @return true if the amount is less than zero
      */
     public boolean isNegative() {
-        return money.isNegative();
+        if (isAmountLong() == false) {
+            return signum() < 0;
+        }
+        return amount < 0;
     }
 
     /**
@@ -621,7 +950,10 @@ public final class Money implements BigMoneyProvider, Comparable<BigMoneyProvide
      * @return true if the amount is zero or less
      */
     public boolean isNegativeOrZero() {
-        return money.isNegativeOrZero();
+        if (isAmountLong() == false) {
+            return signum() <= 0;
+        }
+        return amount <= 0;
     }
 
     //-----------------------------------------------------------------------
@@ -656,7 +988,7 @@ public final class Money implements BigMoneyProvider, Comparable<BigMoneyProvide
      * @return the new instance with the input amount set, never null
      */
     public Money withAmount(BigDecimal amount, RoundingMode roundingMode) {
-        return with(money.withAmount(amount).withCurrencyScale(roundingMode));
+        return with(toBigMoney().withAmount(amount).withCurrencyScale(roundingMode));
     }
 
     /**
@@ -704,7 +1036,7 @@ public final class Money implements BigMoneyProvider, Comparable<BigMoneyProvide
      * @return the new instance with the input amount set, never null
      */
     public Money withAmount(double amount, RoundingMode roundingMode) {
-        return with(money.withAmount(amount).withCurrencyScale(roundingMode));
+        return with(toBigMoney().withAmount(amount).withCurrencyScale(roundingMode));
     }
 
     //-----------------------------------------------------------------------
@@ -721,7 +1053,28 @@ public final class Money implements BigMoneyProvider, Comparable<BigMoneyProvide
      * @throws CurrencyMismatchException if the currencies differ
      */
     public Money plus(Iterable<Money> moniesToAdd) {
-        return with(money.plus(moniesToAdd));
+        if (isAmountLong()) {
+            long total = amount;
+            Iterator<Money> it = moniesToAdd.iterator();
+            while (it.hasNext()) {
+                Money toAdd = it.next();
+                if (isLongCompatible(toAdd)) {
+                    try {
+                        total = Math.addExact(total, toAdd.amount);
+                        continue;
+                    } catch (ArithmeticException ex) {
+                        // too large for a long, continue using BigMoney
+                    }
+                }
+                BigMoney bigTotal = new Money(currency, total).toBigMoney().plus(toAdd);
+                while (it.hasNext()) {
+                    bigTotal = bigTotal.plus(it.next());
+                }
+                return with(bigTotal);
+            }
+            return with(total);
+        }
+        return with(toBigMoney().plus(moniesToAdd));
     }
 
     //-----------------------------------------------------------------------
@@ -741,7 +1094,21 @@ public final class Money implements BigMoneyProvider, Comparable<BigMoneyProvide
      * @throws CurrencyMismatchException if the currencies differ
      */
     public Money plus(Money moneyToAdd) {
-        return with(money.plus(moneyToAdd));
+        if (isLongCompatible(moneyToAdd)) {
+            try {
+                return with(Math.addExact(amount, moneyToAdd.amount));
+            } catch (ArithmeticException ex) {
+                // too large for a long, fall through
+            }
+        }
+        if (isWideCompatible(moneyToAdd)) {
+            try {
+                return with(toInt128().plus(moneyToAdd.toInt128()));
+            } catch (ArithmeticException ex) {
+                // too large for 128 bits, fall through
+            }
+        }
+        return with(toBigMoney().plus(moneyToAdd));
     }
 
     /**
@@ -775,7 +1142,7 @@ public final class Money implements BigMoneyProvider, Comparable<BigMoneyProvide
      * @return the new instance with the input amount added, never null
      */
     public Money plus(BigDecimal amountToAdd, RoundingMode roundingMode) {
-        return with(money.plusRetainScale(amountToAdd, roundingMode));
+        return with(toBigMoney().plusRetainScale(amountToAdd, roundingMode));
     }
 
     /**
@@ -821,7 +1188,7 @@ public final class Money implements BigMoneyProvider, Comparable<BigMoneyProvide
      * @return the new instance with the input amount added, never null
      */
     public Money plus(double amountToAdd, RoundingMode roundingMode) {
-        return with(money.plusRetainScale(amountToAdd, roundingMode));
+        return with(toBigMoney().plusRetainScale(amountToAdd, roundingMode));
     }
 
     /**
@@ -836,7 +1203,14 @@ public final class Money implements BigMoneyProvider, Comparable<BigMoneyProvide
      * @return the new instance with the input amount added, never null
      */
     public Money plusMajor(long amountToAdd) {
-        return with(money.plusMajor(amountToAdd));
+        if (isAmountLong() && MoneyMath.isPowerOfTenLong(getScale())) {
+            try {
+                return with(Math.addExact(amount, Math.multiplyExact(amountToAdd, MoneyMath.powerOfTen(getScale()))));
+            } catch (ArithmeticException ex) {
+                // too large for a long, fall through
+            }
+        }
+        return with(toBigMoney().plusMajor(amountToAdd));
     }
 
     /**
@@ -851,7 +1225,14 @@ public final class Money implements BigMoneyProvider, Comparable<BigMoneyProvide
      * @return the new instance with the input amount added, never null
      */
     public Money plusMinor(long amountToAdd) {
-        return with(money.plusMinor(amountToAdd));
+        if (isAmountLong()) {
+            try {
+                return with(Math.addExact(amount, amountToAdd));
+            } catch (ArithmeticException ex) {
+                // too large for a long, fall through
+            }
+        }
+        return with(toBigMoney().plusMinor(amountToAdd));
     }
 
     //-----------------------------------------------------------------------
@@ -868,7 +1249,28 @@ public final class Money implements BigMoneyProvider, Comparable<BigMoneyProvide
      * @throws CurrencyMismatchException if the currencies differ
      */
     public Money minus(Iterable<Money> moniesToSubtract) {
-        return with(money.minus(moniesToSubtract));
+        if (isAmountLong()) {
+            long total = amount;
+            Iterator<Money> it = moniesToSubtract.iterator();
+            while (it.hasNext()) {
+                Money toSubtract = it.next();
+                if (isLongCompatible(toSubtract)) {
+                    try {
+                        total = Math.subtractExact(total, toSubtract.amount);
+                        continue;
+                    } catch (ArithmeticException ex) {
+                        // too large for a long, continue using BigMoney
+                    }
+                }
+                BigMoney bigTotal = new Money(currency, total).toBigMoney().minus(toSubtract);
+                while (it.hasNext()) {
+                    bigTotal = bigTotal.minus(it.next());
+                }
+                return with(bigTotal);
+            }
+            return with(total);
+        }
+        return with(toBigMoney().minus(moniesToSubtract));
     }
 
     //-----------------------------------------------------------------------
@@ -888,7 +1290,21 @@ public final class Money implements BigMoneyProvider, Comparable<BigMoneyProvide
      * @throws CurrencyMismatchException if the currencies differ
      */
     public Money minus(Money moneyToSubtract) {
-        return with(money.minus(moneyToSubtract));
+        if (isLongCompatible(moneyToSubtract)) {
+            try {
+                return with(Math.subtractExact(amount, moneyToSubtract.amount));
+            } catch (ArithmeticException ex) {
+                // too large for a long, fall through
+            }
+        }
+        if (isWideCompatible(moneyToSubtract)) {
+            try {
+                return with(toInt128().minus(moneyToSubtract.toInt128()));
+            } catch (ArithmeticException ex) {
+                // too large for 128 bits, fall through
+            }
+        }
+        return with(toBigMoney().minus(moneyToSubtract));
     }
 
     /**
@@ -922,7 +1338,7 @@ public final class Money implements BigMoneyProvider, Comparable<BigMoneyProvide
      * @return the new instance with the input amount subtracted, never null
      */
     public Money minus(BigDecimal amountToSubtract, RoundingMode roundingMode) {
-        return with(money.minusRetainScale(amountToSubtract, roundingMode));
+        return with(toBigMoney().minusRetainScale(amountToSubtract, roundingMode));
     }
 
     /**
@@ -968,7 +1384,7 @@ public final class Money implements BigMoneyProvider, Comparable<BigMoneyProvide
      * @return the new instance with the input amount subtracted, never null
      */
     public Money minus(double amountToSubtract, RoundingMode roundingMode) {
-        return with(money.minusRetainScale(amountToSubtract, roundingMode));
+        return with(toBigMoney().minusRetainScale(amountToSubtract, roundingMode));
     }
 
     /**
@@ -983,7 +1399,14 @@ public final class Money implements BigMoneyProvider, Comparable<BigMoneyProvide
      * @return the new instance with the input amount subtracted, never null
      */
     public Money minusMajor(long amountToSubtract) {
-        return with(money.minusMajor(amountToSubtract));
+        if (isAmountLong() && MoneyMath.isPowerOfTenLong(getScale())) {
+            try {
+                return with(Math.subtractExact(amount, Math.multiplyExact(amountToSubtract, MoneyMath.powerOfTen(getScale()))));
+            } catch (ArithmeticException ex) {
+                // too large for a long, fall through
+            }
+        }
+        return with(toBigMoney().minusMajor(amountToSubtract));
     }
 
     /**
@@ -998,7 +1421,14 @@ public final class Money implements BigMoneyProvider, Comparable<BigMoneyProvide
      * @return the new instance with the input amount subtracted, never null
      */
     public Money minusMinor(long amountToSubtract) {
-        return with(money.minusMinor(amountToSubtract));
+        if (isAmountLong()) {
+            try {
+                return with(Math.subtractExact(amount, amountToSubtract));
+            } catch (ArithmeticException ex) {
+                // too large for a long, fall through
+            }
+        }
+        return with(toBigMoney().minusMinor(amountToSubtract));
     }
 
     //-----------------------------------------------------------------------
@@ -1016,7 +1446,7 @@ public final class Money implements BigMoneyProvider, Comparable<BigMoneyProvide
      * @throws ArithmeticException if the rounding fails
      */
     public Money multipliedBy(BigDecimal valueToMultiplyBy, RoundingMode roundingMode) {
-        return with(money.multiplyRetainScale(valueToMultiplyBy, roundingMode));
+        return with(toBigMoney().multiplyRetainScale(valueToMultiplyBy, roundingMode));
     }
 
     /**
@@ -1039,7 +1469,7 @@ public final class Money implements BigMoneyProvider, Comparable<BigMoneyProvide
      * @throws ArithmeticException if the rounding fails
      */
     public Money multipliedBy(double valueToMultiplyBy, RoundingMode roundingMode) {
-        return with(money.multiplyRetainScale(valueToMultiplyBy, roundingMode));
+        return with(toBigMoney().multiplyRetainScale(valueToMultiplyBy, roundingMode));
     }
 
     /**
@@ -1053,7 +1483,21 @@ public final class Money implements BigMoneyProvider, Comparable<BigMoneyProvide
      * @return the new multiplied instance, never null
      */
     public Money multipliedBy(long valueToMultiplyBy) {
-        return with(money.multipliedBy(valueToMultiplyBy));
+        if (isAmountLong()) {
+            try {
+                return with(Math.multiplyExact(amount, valueToMultiplyBy));
+            } catch (ArithmeticException ex) {
+                // too large for a long, fall through
+            }
+        }
+        if (bigAmount == null) {
+            try {
+                return with(toInt128().multipliedBy(valueToMultiplyBy));
+            } catch (ArithmeticException ex) {
+                // too large for 128 bits, fall through
+            }
+        }
+        return with(toBigMoney().multipliedBy(valueToMultiplyBy));
     }
 
     //-----------------------------------------------------------------------
@@ -1072,7 +1516,7 @@ public final class Money implements BigMoneyProvider, Comparable<BigMoneyProvide
      * @throws ArithmeticException if the rounding fails
      */
     public Money dividedBy(BigDecimal valueToDivideBy, RoundingMode roundingMode) {
-        return with(money.dividedBy(valueToDivideBy, roundingMode));
+        return with(toBigMoney().dividedBy(valueToDivideBy, roundingMode));
     }
 
     /**
@@ -1096,7 +1540,7 @@ public final class Money implements BigMoneyProvider, Comparable<BigMoneyProvide
      * @throws ArithmeticException if the rounding fails
      */
     public Money dividedBy(double valueToDivideBy, RoundingMode roundingMode) {
-        return with(money.dividedBy(valueToDivideBy, roundingMode));
+        return with(toBigMoney().dividedBy(valueToDivideBy, roundingMode));
     }
 
     /**
@@ -1114,7 +1558,68 @@ public final class Money implements BigMoneyProvider, Comparable<BigMoneyProvide
      * @throws ArithmeticException if the rounding fails
      */
     public Money dividedBy(long valueToDivideBy, RoundingMode roundingMode) {
-        return with(money.dividedBy(valueToDivideBy, roundingMode));
+        if (isAmountLong() && valueToDivideBy != 1) {
+            MoneyUtils.checkNotNull(roundingMode, "RoundingMode must not be null");
+            try {
+                return with(MoneyMath.divide(amount, valueToDivideBy, roundingMode));
+            } catch (ArithmeticException ex) {
+                // overflow, zero divisor or rounding required, fall through
+            }
+        }
+        return with(toBigMoney().dividedBy(valueToDivideBy, roundingMode));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Allocates this monetary value into parts in proportion to the ratios.
+     * <p>
+     * For example, allocating 'USD 100.00' using the ratios 1, 1 and 1
+     * returns 'USD 33.34', 'USD 33.33' and 'USD 33.33'.
+     * Each part is rounded down, with the remaining minor units given to the parts
+     * that lost the most in the rounding, so the parts add up to exactly this amount.
+     * See {@link MoneyAllocator} for details.
+     * <p>
+     * This instance is immutable and unaffected by this method.
+     * 
+     * @param ratios  the ratios, each zero or greater, at least one greater than zero, not null
+     * @return the parts, in the order of the ratios, never null
+     * @throws IllegalArgumentException if a ratio is negative or there are no positive ratios
+     * @throws ArithmeticException if the total of the ratios exceeds a {@code long}
+     */
+    public Money[] allocate(long... ratios) {
+        return MoneyAllocator.of(ratios).allocate(this);
+    }
+
+    /**
+     * Splits this monetary value into equal parts.
+     * <p>
+     * For example, splitting 'USD 100.00' into three parts
+     * returns 'USD 33.34', 'USD 33.33' and 'USD 33.33'.
+     * Where the amount does not divide exactly, the earlier parts are larger by one minor unit,
+     * so the parts add up to exactly this amount.
+     * <p>
+     * This instance is immutable and unaffected by this method.
+     * 
+     * @param parts  the number of parts, greater than zero
+     * @return the parts, never null
+     * @throws IllegalArgumentException if the number of parts is zero or less
+     */
+    public Money[] split(int parts) {
+        if (isAmountLong() == false) {
+            return MoneyAllocator.equalParts(parts).allocate(this);
+        }
+        if (parts <= 0) {
+            throw new IllegalArgumentException("Number of parts must be greater than zero");
+        }
+        long part = amount / parts;
+        int larger = (int) Math.abs(amount % parts);
+        Money smallPart = with(part);
+        Money largePart = (larger > 0 ? with(amount < 0 ? part - 1 : part + 1) : smallPart);
+        Money[] result = new Money[parts];
+        for (int i = 0; i < parts; i++) {
+            result[i] = (i < larger ? largePart : smallPart);
+        }
+        return result;
     }
 
     //-----------------------------------------------------------------------
@@ -1126,7 +1631,17 @@ public final class Money implements BigMoneyProvider, Comparable<BigMoneyProvide
      * @return the new instance with the amount negated, never null
      */
     public Money negated() {
-        return with(money.negated());
+        if (isAmountLong() && amount != Long.MIN_VALUE) {
+            return with(-amount);
+        }
+        if (bigAmount == null) {
+            try {
+                return with(toInt128().negated());
+            } catch (ArithmeticException ex) {
+                // too large for 128 bits, fall through
+            }
+        }
+        return with(toBigMoney().negated());
     }
 
     /**
@@ -1163,7 +1678,40 @@ public final class Money implements BigMoneyProvider, Comparable<BigMoneyProvide
      * @throws ArithmeticException if the rounding fails
      */
     public Money rounded(int scale, RoundingMode roundingMode) {
-        return with(money.rounded(scale, roundingMode));
+        return with(toBigMoney().rounded(scale, roundingMode));
+    }
+
+    /**
+     * Returns a copy of this monetary value rounded to the smallest amount used in cash.
+     * <p>
+     * Some currencies do not use the smallest unit in cash, see {@link CurrencyUnit#getCashIncrement()}.
+     * <ul>
+     * <li>Rounding 'CHF 45.23' returns 45.20 or 45.25 depending on the rounding mode.
+     * <li>Rounding 'SEK 45.23' returns 45.00 or 46.00 depending on the rounding mode.
+     * <li>Rounding 'GBP 45.23' has no effect, as cash uses every minor unit.
+     * </ul>
+     * <p>
+     * This instance is immutable and unaffected by this method.
+     * 
+     * @param roundingMode  the rounding mode to use, not null
+     * @return the new instance with the amount rounded, never null
+     * @throws ArithmeticException if the rounding fails
+     */
+    public Money roundedToCash(RoundingMode roundingMode) {
+        MoneyUtils.checkNotNull(roundingMode, "RoundingMode must not be null");
+        int increment = currency.getCashIncrementMinor();
+        if (increment == 1) {
+            return this;
+        }
+        if (isAmountLong()) {
+            try {
+                return with(Math.multiplyExact(MoneyMath.divide(amount, increment, roundingMode), increment));
+            } catch (ArithmeticException ex) {
+                // too large for a long, or rounding required, fall through
+            }
+        }
+        BigDecimal cashIncrement = currency.getCashIncrement();
+        return Money.of(currency, getAmount().divide(cashIncrement, 0, roundingMode).multiply(cashIncrement));
     }
 
     //-----------------------------------------------------------------------
@@ -1183,7 +1731,7 @@ public final class Money implements BigMoneyProvider, Comparable<BigMoneyProvide
      * @throws ArithmeticException if the rounding fails
      */
     public Money convertedTo(CurrencyUnit currency, BigDecimal conversionMultipler, RoundingMode roundingMode) {
-        return with(money.convertedTo(currency, conversionMultipler).withCurrencyScale(roundingMode));
+        return with(toBigMoney().convertedToExact(currency, conversionMultipler).withCurrencyScale(roundingMode));
     }
 
     //-----------------------------------------------------------------------
@@ -1195,7 +1743,7 @@ public final class Money implements BigMoneyProvider, Comparable<BigMoneyProvide
      */
     @Override
     public BigMoney toBigMoney() {
-        return money;
+        return new BigMoney(currency, getAmount());
     }
 
     //-----------------------------------------------------------------------
@@ -1206,7 +1754,10 @@ public final class Money implements BigMoneyProvider, Comparable<BigMoneyProvide
      * @return true if they have the same currency
      */
     public boolean isSameCurrency(BigMoneyProvider other) {
-        return money.isSameCurrency(other);
+        if (other instanceof Money) {
+            return currency.equals(((Money) other).currency);
+        }
+        return toBigMoney().isSameCurrency(other);
     }
 
     //-----------------------------------------------------------------------
@@ -1223,7 +1774,31 @@ public final class Money implements BigMoneyProvider, Comparable<BigMoneyProvide
      */
     @Override
     public int compareTo(BigMoneyProvider other) {
-        return money.compareTo(other);
+        if (other instanceof Money) {
+            return compareTo((Money) other);
+        }
+        return toBigMoney().compareTo(other);
+    }
+
+    /**
+     * Compares this monetary value to another {@code Money}.
+     * <p>
+     * This is the same as {@link #compareTo(BigMoneyProvider)}, but avoids
+     * converting the amounts to {@code BigDecimal} when both fit in a {@code long}.
+     * The compared values must be in the same currency.
+     * 
+     * @param other  the other monetary value, not null
+     * @return -1 if this is less than , 0 if equal, 1 if greater than
+     * @throws CurrencyMismatchException if the currencies differ
+     */
+    public int compareTo(Money other) {
+        if (isLongCompatible(other)) {
+            return Long.compare(amount, other.amount);
+        }
+        if (isWideCompatible(other)) {
+            return toInt128().compareTo(other.toInt128());
+        }
+        return toBigMoney().compareTo(other);
     }
 
     /**
@@ -1239,7 +1814,22 @@ public final class Money implements BigMoneyProvider, Comparable<BigMoneyProvide
      * @see #equals(Object)
      */
     public boolean isEqual(BigMoneyProvider other) {
-        return money.isEqual(other);
+        return compareTo(other) == 0;
+    }
+
+    /**
+     * Checks if this monetary value is equal to another {@code Money}.
+     * <p>
+     * This is the same as {@link #isEqual(BigMoneyProvider)}, but avoids
+     * converting the amounts to {@code BigDecimal} when both fit in a {@code long}.
+     * The compared values must be in the same currency.
+     * 
+     * @param other  the other monetary value, not null
+     * @return true if this is equal to the specified monetary value
+     * @throws CurrencyMismatchException if the currencies differ
+     */
+    public boolean isEqual(Money other) {
+        return compareTo(other) == 0;
     }
 
     /**
@@ -1254,7 +1844,22 @@ public final class Money implements BigMoneyProvider, Comparable<BigMoneyProvide
      * @throws CurrencyMismatchException if the currencies differ
      */
     public boolean isGreaterThan(BigMoneyProvider other) {
-        return money.isGreaterThan(other);
+        return compareTo(other) > 0;
+    }
+
+    /**
+     * Checks if this monetary value is greater than another {@code Money}.
+     * <p>
+     * This is the same as {@link #isGreaterThan(BigMoneyProvider)}, but avoids
+     * converting the amounts to {@code BigDecimal} when both fit in a {@code long}.
+     * The compared values must be in the same currency.
+     * 
+     * @param other  the other monetary value, not null
+     * @return true if this is greater than the specified monetary value
+     * @throws CurrencyMismatchException if the currencies differ
+     */
+    public boolean isGreaterThan(Money other) {
+        return compareTo(other) > 0;
     }
 
     /**
@@ -1269,7 +1874,40 @@ public final class Money implements BigMoneyProvider, Comparable<BigMoneyProvide
      * @throws CurrencyMismatchException if the currencies differ
      */
     public boolean isLessThan(BigMoneyProvider other) {
-        return money.isLessThan(other);
+        return compareTo(other) < 0;
+    }
+
+    /**
+     * Checks if this monetary value is less than another {@code Money}.
+     * <p>
+     * This is the same as {@link #isLessThan(BigMoneyProvider)}, but avoids
+     * converting the amounts to {@code BigDecimal} when both fit in a {@code long}.
+     * The compared values must be in the same currency.
+     * 
+     * @param other  the other monetary value, not null
+     * @return true if this is less than the specified monetary value
+     * @throws CurrencyMismatchException if the currencies differ
+     */
+    public boolean isLessThan(Money other) {
+        return compareTo(other) < 0;
+    }
+
+    /**
+     * Obtains a comparator of {@code Money} in a single currency.
+     * <p>
+     * The comparator orders by amount, the same as {@link #compareTo(Money)}.
+     * Each instance passed to the comparator must be in the specified currency,
+     * which allows amounts that fit in a {@code long} to be compared directly.
+     * This is intended for sorting large numbers of amounts in one currency.
+     * <p>
+     * The comparator is serializable.
+     * 
+     * @param currency  the currency of the amounts to compare, not null
+     * @return the comparator, never null
+     */
+    public static Comparator<Money> comparator(CurrencyUnit currency) {
+        MoneyUtils.checkNotNull(currency, "CurrencyUnit must not be null");
+        return new CurrencyComparator(currency);
     }
 
     //-----------------------------------------------------------------------
@@ -1289,7 +1927,19 @@ public final class Money implements BigMoneyProvider, Comparable<BigMoneyProvide
         }
         if (other instanceof Money) {
             Money otherMoney = (Money) other;
-            return money.equals(otherMoney.money);
+            if (bigAmount != null) {
+                return currency.equals(otherMoney.currency) &&
+                        bigAmount.equals(otherMoney.bigAmount);
+            }
+            if (wideAmount != null) {
+                return wideAmount.equals(otherMoney.wideAmount) &&
+                        currency.equals(otherMoney.currency) &&
+                        getScale() == otherMoney.getScale();
+            }
+            return otherMoney.isAmountLong() &&
+                    amount == otherMoney.amount &&
+                    currency.equals(otherMoney.currency) &&
+                    getScale() == otherMoney.getScale();
         }
         return false;
     }
@@ -1301,7 +1951,13 @@ public final class Money implements BigMoneyProvider, Comparable<BigMoneyProvide
      */
     @Override
     public int hashCode() {
-        return money.hashCode() + 3;
+        if (wideAmount != null) {
+            return (currency.hashCode() ^ wideAmount.hashCode()) + 5;
+        }
+        if (bigAmount != null) {
+            return (currency.hashCode() ^ bigAmount.hashCode()) + 3;
+        }
+        return currency.hashCode() ^ Long.hashCode(amount);
     }
 
     //-----------------------------------------------------------------------
@@ -1316,7 +1972,52 @@ public final class Money implements BigMoneyProvider, Comparable<BigMoneyProvide
     @Override
     @ToString
     public String toString() {
-        return money.toString();
+        return toBigMoney().toString();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Comparator of {@code Money} in a single currency.
+     */
+    private static final class CurrencyComparator implements Comparator<Money>, Serializable {
+
+        /**
+         * Serialization version.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The currency, not null.
+         */
+        private final CurrencyUnit currency;
+
+        /**
+         * Constructor.
+         * 
+         * @param currency  the currency, not null
+         */
+        CurrencyComparator(CurrencyUnit currency) {
+            this.currency = currency;
+        }
+
+        @Override
+        public int compare(Money first, Money second) {
+            if (first.currency != currency && first.currency.equals(currency) == false) {
+                throw new CurrencyMismatchException(currency, first.currency);
+            }
+            if (second.currency != currency && second.currency.equals(currency) == false) {
+                throw new CurrencyMismatchException(currency, second.currency);
+            }
+            if (first.isAmountLong() && second.isAmountLong()) {
+                return Long.compare(first.amount, second.amount);
+            }
+            return first.compareTo(second);
+        }
+
+        @Override
+        public String toString() {
+            return "CurrencyComparator[" + currency + "]";
+        }
     }
 
 }
@@ -0,0 +1,355 @@
+/*
+ *  Copyright 2009-present, Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.money;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+/**
+ * A mutable accumulator of monetary amounts in a single currency.
+ * <p>
+ * This class allows amounts to be added and subtracted without creating an
+ * immutable object for each step. The immutable result is obtained at the end
+ * using {@link #toMoney()} or {@link #toBigMoney()}.
+ * <p>
+ * The amount is held as a {@code long} in terms of the currency scale.
+ * If the amount becomes too large, or an amount with a larger scale is added,
+ * the accumulator switches to a {@code BigDecimal} until it is reset.
+ * <p>
+ * This class is mutable and intended for use by a single thread.
+ */
+public final class MoneyAccumulator implements BigMoneyProvider {
+
+    /**
+     * The currency, not null.
+     */
+    private final CurrencyUnit currency;
+    /**
+     * The amount in terms of the currency scale, only valid if {@code bigAmount} is null.
+     */
+    private long amount;
+    /**
+     * The amount, only set if the amount cannot be held as a {@code long}, may be null.
+     */
+    private BigDecimal bigAmount;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains an accumulator with an amount of zero.
+     *
+     * @param currency  the currency, not null
+     * @return the new accumulator, never null
+     */
+    public static MoneyAccumulator of(CurrencyUnit currency) {
+        MoneyUtils.checkNotNull(currency, "CurrencyUnit must not be null");
+        return new MoneyAccumulator(currency);
+    }
+
+    /**
+     * Obtains an accumulator with an initial amount.
+     *
+     * @param moneyProvider  the initial amount, not null
+     * @return the new accumulator, never null
+     */
+    public static MoneyAccumulator of(BigMoneyProvider moneyProvider) {
+        MoneyUtils.checkNotNull(moneyProvider, "BigMoneyProvider must not be null");
+        if (moneyProvider instanceof Money) {
+            return new MoneyAccumulator(((Money) moneyProvider).getCurrencyUnit()).add(moneyProvider);
+        }
+        BigMoney money = BigMoney.of(moneyProvider);
+        return new MoneyAccumulator(money.getCurrencyUnit()).add(money);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Constructor.
+     * 
+     * @param currency  the currency, not null
+     */
+    private MoneyAccumulator(CurrencyUnit currency) {
+        this.currency = currency;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the currency.
+     * 
+     * @return the currency, never null
+     */
+    public CurrencyUnit getCurrencyUnit() {
+        return currency;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Adds a monetary amount to this accumulator.
+     * <p>
+     * The amount must be in the same currency.
+     * No precision is lost.
+     * 
+     * @param moneyToAdd  the monetary value to add, not null
+     * @return this, for chaining, never null
+     * @throws CurrencyMismatchException if the currencies differ
+     */
+    public MoneyAccumulator add(BigMoneyProvider moneyToAdd) {
+        if (moneyToAdd instanceof Money) {
+            Money money = checkCurrencyEqual((Money) moneyToAdd);
+            if (money.isAmountLong() && money.getCurrencyUnit() == currency) {
+                return addUnscaled(money.getAmountLong());
+            }
+            return addBig(money.getAmount());
+        }
+        if (moneyToAdd instanceof MoneyAccumulator) {
+            MoneyAccumulator other = (MoneyAccumulator) moneyToAdd;
+            if (currency.equals(other.currency) == false) {
+                throw new CurrencyMismatchException(currency, other.currency);
+            }
+            if (other.bigAmount == null && other.currency == currency) {
+                return addUnscaled(other.amount);
+            }
+            return addBig(other.toBigDecimal());
+        }
+        BigMoney money = checkCurrencyEqual(moneyToAdd);
+        if (bigAmount == null && money.getScale() == currency.getDecimalPlaces()) {
+            BigInteger unscaled = money.getAmount().unscaledValue();
+            if (unscaled.bitLength() < Long.SIZE) {
+                return addUnscaled(unscaled.longValue());
+            }
+        }
+        return addBig(money.getAmount());
+    }
+
+    /**
+     * Adds a collection of monetary amounts to this accumulator.
+     * <p>
+     * The amounts must be in the same currency.
+     * No precision is lost.
+     * 
+     * @param moniesToAdd  the monetary values to add, no null elements, not null
+     * @return this, for chaining, never null
+     * @throws CurrencyMismatchException if the currencies differ
+     */
+    public MoneyAccumulator add(Iterable<? extends BigMoneyProvider> moniesToAdd) {
+        for (BigMoneyProvider moneyToAdd : moniesToAdd) {
+            add(moneyToAdd);
+        }
+        return this;
+    }
+
+    /**
+     * Subtracts a monetary amount from this accumulator.
+     * <p>
+     * The amount must be in the same currency.
+     * No precision is lost.
+     * 
+     * @param moneyToSubtract  the monetary value to subtract, not null
+     * @return this, for chaining, never null
+     * @throws CurrencyMismatchException if the currencies differ
+     */
+    public MoneyAccumulator subtract(BigMoneyProvider moneyToSubtract) {
+        if (moneyToSubtract instanceof Money) {
+            Money money = checkCurrencyEqual((Money) moneyToSubtract);
+            if (money.isAmountLong() && money.getCurrencyUnit() == currency && money.getAmountLong() != Long.MIN_VALUE) {
+                return addUnscaled(-money.getAmountLong());
+            }
+            return addBig(money.getAmount().negate());
+        }
+        if (moneyToSubtract instanceof MoneyAccumulator) {
+            MoneyAccumulator other = (MoneyAccumulator) moneyToSubtract;
+            if (currency.equals(other.currency) == false) {
+                throw new CurrencyMismatchException(currency, other.currency);
+            }
+            if (other.bigAmount == null && other.currency == currency && other.amount != Long.MIN_VALUE) {
+                return addUnscaled(-other.amount);
+            }
+            return addBig(other.toBigDecimal().negate());
+        }
+        BigMoney money = checkCurrencyEqual(moneyToSubtract);
+        if (bigAmount == null && money.getScale() == currency.getDecimalPlaces()) {
+            BigInteger unscaled = money.getAmount().unscaledValue();
+            if (unscaled.bitLength() < Long.SIZE && unscaled.longValue() != Long.MIN_VALUE) {
+                return addUnscaled(-unscaled.longValue());
+            }
+        }
+        return addBig(money.getAmount().negate());
+    }
+
+    /**
+     * Adds an amount in minor units to this accumulator.
+     * <p>
+     * For example, adding 138 to a USD accumulator adds 'USD 1.38'.
+     * 
+     * @param amountToAdd  the amount in minor units to add
+     * @return this, for chaining, never null
+     */
+    public MoneyAccumulator addMinor(long amountToAdd) {
+        return addUnscaled(amountToAdd);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Multiplies the amount in this accumulator by the specified value.
+     * 
+     * @param valueToMultiplyBy  the scalar value to multiply by
+     * @return this, for chaining, never null
+     */
+    public MoneyAccumulator multiply(long valueToMultiplyBy) {
+        if (bigAmount == null) {
+            try {
+                amount = Math.multiplyExact(amount, valueToMultiplyBy);
+                return this;
+            } catch (ArithmeticException ex) {
+                bigAmount = BigDecimal.valueOf(amount, currency.getDecimalPlaces());
+            }
+        }
+        bigAmount = bigAmount.multiply(BigDecimal.valueOf(valueToMultiplyBy));
+        return this;
+    }
+
+    /**
+     * Negates the amount in this accumulator.
+     * 
+     * @return this, for chaining, never null
+     */
+    public MoneyAccumulator negate() {
+        if (bigAmount == null && amount != Long.MIN_VALUE) {
+            amount = -amount;
+            return this;
+        }
+        bigAmount = toBigDecimal().negate();
+        return this;
+    }
+
+    /**
+     * Resets the amount in this accumulator to zero.
+     * 
+     * @return this, for chaining, never null
+     */
+    public MoneyAccumulator reset() {
+        amount = 0;
+        bigAmount = null;
+        return this;
+    }
+
+    /**
+     * Checks if the accumulated amount is held as a {@code long} in terms of the currency scale.
+     * 
+     * @return true if the amount is held as a {@code long}
+     */
+    boolean isAmountLong() {
+        return bigAmount == null;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Converts the accumulated amount to a {@code Money} without rounding.
+     * 
+     * @return the money, never null
+     * @throws ArithmeticException if rounding is necessary
+     */
+    public Money toMoney() {
+        return toMoney(RoundingMode.UNNECESSARY);
+    }
+
+    /**
+     * Converts the accumulated amount to a {@code Money}, rounding as necessary.
+     * 
+     * @param roundingMode  the rounding mode to use, not null
+     * @return the money, never null
+     * @throws ArithmeticException if the rounding fails
+     */
+    public Money toMoney(RoundingMode roundingMode) {
+        MoneyUtils.checkNotNull(roundingMode, "RoundingMode must not be null");
+        if (bigAmount == null) {
+            return Money.ofMinor(currency, amount);
+        }
+        return Money.of(currency, bigAmount, roundingMode);
+    }
+
+    /**
+     * Converts the accumulated amount to a {@code BigMoney}.
+     * <p>
+     * The scale will be the currency scale, or larger if an amount
+     * with a larger scale was added.
+     * 
+     * @return the money, never null
+     */
+    @Override
+    public BigMoney toBigMoney() {
+        return new BigMoney(currency, toBigDecimal());
+    }
+
+    //-----------------------------------------------------------------------
+    // adds an amount in terms of the currency scale
+    private MoneyAccumulator addUnscaled(long amountToAdd) {
+        if (bigAmount == null) {
+            try {
+                amount = Math.addExact(amount, amountToAdd);
+                return this;
+            } catch (ArithmeticException ex) {
+                bigAmount = BigDecimal.valueOf(amount, currency.getDecimalPlaces());
+            }
+        }
+        bigAmount = bigAmount.add(BigDecimal.valueOf(amountToAdd, currency.getDecimalPlaces()));
+        return this;
+    }
+
+    // adds an amount, switching to BigDecimal
+    private MoneyAccumulator addBig(BigDecimal amountToAdd) {
+        bigAmount = toBigDecimal().add(amountToAdd);
+        return this;
+    }
+
+    // gets the amount as a BigDecimal
+    private BigDecimal toBigDecimal() {
+        if (bigAmount == null) {
+            return BigDecimal.valueOf(amount, currency.getDecimalPlaces());
+        }
+        return bigAmount;
+    }
+
+    // validates the currency, matching BigMoney
+    private Money checkCurrencyEqual(Money money) {
+        if (currency.equals(money.getCurrencyUnit()) == false) {
+            throw new CurrencyMismatchException(currency, money.getCurrencyUnit());
+        }
+        return money;
+    }
+
+    // validates the currency, matching BigMoney
+    private BigMoney checkCurrencyEqual(BigMoneyProvider moneyProvider) {
+        BigMoney money = BigMoney.of(moneyProvider);
+        if (currency.equals(money.getCurrencyUnit()) == false) {
+            throw new CurrencyMismatchException(currency, money.getCurrencyUnit());
+        }
+        return money;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the accumulated amount as a string.
+     * <p>
+     * The format matches {@link BigMoney#toString()}.
+     * 
+     * @return the string representation of the accumulated amount, never null
+     */
+    @Override
+    public String toString() {
+        return toBigMoney().toString();
+    }
+
+}
@@ -0,0 +1,286 @@
+/*
+ *  Copyright 2009-present, Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.money;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * Allocates a monetary amount in proportion to a set of ratios.
+ * <p>
+ * This class splits an amount into parts, such as sharing a fee across accounts.
+ * Each part is the amount multiplied by its ratio and divided by the total of the ratios,
+ * rounded down to the currency scale.
+ * The minor units that remain are then given, one each, to the parts that lost the most
+ * in the rounding, known as largest remainder allocation.
+ * Where remainders are equal, the earlier part is preferred.
+ * The parts always add up to exactly the original amount.
+ * <p>
+ * Negative amounts are allocated as though positive, with the sign applied to each part.
+ * <p>
+ * The allocation uses {@code long} arithmetic, only switching to {@code BigInteger}
+ * when the amount multiplied by a ratio is too large for a {@code long}.
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+public final class MoneyAllocator {
+
+    /**
+     * The ratios, not null.
+     */
+    private final long[] ratios;
+    /**
+     * The total of the ratios, greater than zero.
+     */
+    private final long total;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains an allocator for the specified ratios.
+     * <p>
+     * For example, {@code of(1, 1, 2)} allocates a quarter of the amount to each
+     * of the first two parts and half to the third.
+     * A ratio of zero results in a zero part.
+     *
+     * @param ratios  the ratios, each zero or greater, at least one greater than zero, not null
+     * @return the allocator, never null
+     * @throws IllegalArgumentException if a ratio is negative or there are no positive ratios
+     * @throws ArithmeticException if the total of the ratios exceeds a {@code long}
+     */
+    public static MoneyAllocator of(long... ratios) {
+        MoneyUtils.checkNotNull(ratios, "Ratios must not be null");
+        long[] copy = ratios.clone();
+        long total = 0;
+        for (long ratio : copy) {
+            if (ratio < 0) {
+                throw new IllegalArgumentException("Ratios must not be negative");
+            }
+            total = Math.addExact(total, ratio);
+        }
+        if (total == 0) {
+            throw new IllegalArgumentException("Ratios must contain a value greater than zero");
+        }
+        return new MoneyAllocator(copy, total);
+    }
+
+    /**
+     * Obtains an allocator that splits an amount into equal parts.
+     *
+     * @param parts  the number of parts, greater than zero
+     * @return the allocator, never null
+     * @throws IllegalArgumentException if the number of parts is zero or less
+     */
+    static MoneyAllocator equalParts(int parts) {
+        if (parts <= 0) {
+            throw new IllegalArgumentException("Number of parts must be greater than zero");
+        }
+        long[] ratios = new long[parts];
+        Arrays.fill(ratios, 1);
+        return new MoneyAllocator(ratios, parts);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Constructor.
+     * 
+     * @param ratios  the ratios, not null
+     * @param total  the total of the ratios, greater than zero
+     */
+    private MoneyAllocator(long[] ratios, long total) {
+        this.ratios = ratios;
+        this.total = total;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the number of parts, which is the number of ratios.
+     * 
+     * @return the number of parts
+     */
+    public int size() {
+        return ratios.length;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Allocates a monetary amount.
+     * <p>
+     * The parts are in the order of the ratios, in the currency of the amount.
+     * 
+     * @param money  the amount to allocate, not null
+     * @return the parts, which add up to the amount, never null
+     */
+    public Money[] allocate(Money money) {
+        MoneyUtils.checkNotNull(money, "Money must not be null");
+        CurrencyUnit currency = money.getCurrencyUnit();
+        Money[] parts = new Money[ratios.length];
+        if (money.isAmountLong() && money.getAmountMinorLong() != Long.MIN_VALUE) {
+            long[] minor = allocateMinor(money.getAmountMinorLong());
+            for (int i = 0; i < parts.length; i++) {
+                parts[i] = Money.ofMinor(currency, minor[i]);
+            }
+            return parts;
+        }
+        int scale = currency.getDecimalPlaces();
+        BigInteger[] minor = allocateBig(money.getAmount().unscaledValue());
+        for (int i = 0; i < parts.length; i++) {
+            parts[i] = Money.of(currency, new BigDecimal(minor[i], scale));
+        }
+        return parts;
+    }
+
+    /**
+     * Allocates an amount in minor units.
+     * 
+     * @param amountMinor  the amount in minor units to allocate
+     * @return the parts in minor units, which add up to the amount, never null
+     * @throws ArithmeticException if the amount is {@code Long.MIN_VALUE}
+     */
+    public long[] allocateMinor(long amountMinor) {
+        long[] results = new long[ratios.length];
+        allocateMinor(amountMinor, results);
+        return results;
+    }
+
+    /**
+     * Allocates an amount in minor units into an existing array.
+     * <p>
+     * This allows the same array to be reused for many allocations.
+     * 
+     * @param amountMinor  the amount in minor units to allocate
+     * @param results  the array to store the parts in, the same size as this allocator, not null
+     * @throws IllegalArgumentException if the array is the wrong size
+     * @throws ArithmeticException if the amount is {@code Long.MIN_VALUE}
+     */
+    public void allocateMinor(long amountMinor, long[] results) {
+        MoneyUtils.checkNotNull(results, "Results must not be null");
+        if (results.length != ratios.length) {
+            throw new IllegalArgumentException("Results array must be the same size as the ratios");
+        }
+        long amount = Math.abs(amountMinor);
+        if (amount < 0) {
+            throw new ArithmeticException("Amount must not be Long.MIN_VALUE");
+        }
+        long allocated = 0;
+        long[] remainders = null;
+        for (int i = 0; i < ratios.length; i++) {
+            long ratio = ratios[i];
+            long part;
+            long remainder;
+            try {
+                long product = Math.multiplyExact(amount, ratio);
+                part = product / total;
+                remainder = product % total;
+            } catch (ArithmeticException ex) {
+                // too large for a long, use BigInteger for this part
+                BigInteger[] divRem = BigInteger.valueOf(amount).multiply(BigInteger.valueOf(ratio))
+                        .divideAndRemainder(BigInteger.valueOf(total));
+                part = divRem[0].longValue();
+                remainder = divRem[1].longValue();
+            }
+            if (remainder != 0) {
+                if (remainders == null) {
+                    remainders = new long[ratios.length];
+                }
+                remainders[i] = remainder;
+            }
+            results[i] = part;
+            allocated += part;
+        }
+        if (allocated != amount) {
+            flagLargest(remainders, (int) (amount - allocated));
+            for (int i = 0; i < results.length; i++) {
+                results[i] += remainders[i];
+            }
+        }
+        if (amountMinor < 0) {
+            for (int i = 0; i < results.length; i++) {
+                results[i] = -results[i];
+            }
+        }
+    }
+
+    // allocates an amount of any size
+    private BigInteger[] allocateBig(BigInteger amountMinor) {
+        BigInteger amount = amountMinor.abs();
+        BigInteger bigTotal = BigInteger.valueOf(total);
+        BigInteger[] results = new BigInteger[ratios.length];
+        long[] remainders = new long[ratios.length];
+        BigInteger allocated = BigInteger.ZERO;
+        for (int i = 0; i < ratios.length; i++) {
+            BigInteger[] divRem = amount.multiply(BigInteger.valueOf(ratios[i])).divideAndRemainder(bigTotal);
+            results[i] = divRem[0];
+            remainders[i] = divRem[1].longValue();
+            allocated = allocated.add(divRem[0]);
+        }
+        int leftover = amount.subtract(allocated).intValueExact();
+        if (leftover > 0) {
+            flagLargest(remainders, leftover);
+            for (int i = 0; i < results.length; i++) {
+                if (remainders[i] != 0) {
+                    results[i] = results[i].add(BigInteger.ONE);
+                }
+            }
+        }
+        if (amountMinor.signum() < 0) {
+            for (int i = 0; i < results.length; i++) {
+                results[i] = results[i].negate();
+            }
+        }
+        return results;
+    }
+
+    // replaces each remainder by one if the part receives one of the leftover minor units, zero otherwise
+    // the leftover is less than the number of positive remainders, as each remainder is less than the total
+    // so the parts with the largest remainders each get one unit, with ties going to the earlier part
+    private static void flagLargest(long[] remainders, int leftover) {
+        long[] sorted = remainders.clone();
+        Arrays.sort(sorted);
+        long threshold = sorted[sorted.length - leftover];
+        int tiesAllowed = leftover;
+        for (long remainder : remainders) {
+            if (remainder > threshold) {
+                tiesAllowed--;
+            }
+        }
+        for (int i = 0; i < remainders.length; i++) {
+            long remainder = remainders[i];
+            if (remainder > threshold) {
+                remainders[i] = 1;
+            } else if (remainder == threshold && tiesAllowed > 0) {
+                remainders[i] = 1;
+                tiesAllowed--;
+            } else {
+                remainders[i] = 0;
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the allocator as a string.
+     * <p>
+     * The format is the list of ratios, such as 'MoneyAllocator[1, 1, 2]'.
+     * 
+     * @return the string representation of this allocator, never null
+     */
+    @Override
+    public String toString() {
+        return "MoneyAllocator" + Arrays.toString(ratios);
+    }
+
+}
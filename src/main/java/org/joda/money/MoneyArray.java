@@ -0,0 +1,557 @@
+/*
+ *  Copyright 2009-present, Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.money;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * An immutable array of monetary amounts in a single currency.
+ * <p>
+ * This class holds the amounts as a {@code long} array of minor units, using
+ * eight bytes per amount, rather than as an array of {@code Money} objects.
+ * The scale is always the scale of the currency.
+ * Operations on the whole array run over the primitive values without
+ * creating an object per amount.
+ * <p>
+ * The amount of each element is limited to that of a {@code long}.
+ * Operations that produce a larger amount throw {@code ArithmeticException}.
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+public final class MoneyArray implements Iterable<Money> {
+
+    /**
+     * The currency, not null.
+     */
+    private final CurrencyUnit currency;
+    /**
+     * The amounts in minor units, not null.
+     */
+    private final long[] amounts;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains an instance from amounts in minor units.
+     * <p>
+     * For example, {@code ofMinor(USD, 1234, 2345)} creates the amounts {@code USD 12.34}
+     * and {@code USD 23.45}.
+     * The array is copied.
+     *
+     * @param currency  the currency, not null
+     * @param amountsMinor  the amounts in minor units, not null
+     * @return the new instance, never null
+     */
+    public static MoneyArray ofMinor(CurrencyUnit currency, long... amountsMinor) {
+        MoneyUtils.checkNotNull(currency, "CurrencyUnit must not be null");
+        MoneyUtils.checkNotNull(amountsMinor, "Amounts must not be null");
+        return new MoneyArray(currency, amountsMinor.clone());
+    }
+
+    /**
+     * Obtains an instance from an array of {@code Money}.
+     *
+     * @param currency  the currency, not null
+     * @param monies  the monetary values, no null elements, not null
+     * @return the new instance, never null
+     * @throws CurrencyMismatchException if the currencies differ
+     * @throws ArithmeticException if an amount exceeds the capacity of a {@code long} in minor units
+     */
+    public static MoneyArray of(CurrencyUnit currency, Money... monies) {
+        MoneyUtils.checkNotNull(monies, "Money array must not be null");
+        return of(currency, Arrays.asList(monies));
+    }
+
+    /**
+     * Obtains an instance from a collection of {@code Money}.
+     *
+     * @param currency  the currency, not null
+     * @param monies  the monetary values, no null elements, not null
+     * @return the new instance, never null
+     * @throws CurrencyMismatchException if the currencies differ
+     * @throws ArithmeticException if an amount exceeds the capacity of a {@code long} in minor units
+     */
+    public static MoneyArray of(CurrencyUnit currency, Collection<Money> monies) {
+        MoneyUtils.checkNotNull(currency, "CurrencyUnit must not be null");
+        MoneyUtils.checkNotNull(monies, "Money collection must not be null");
+        long[] amounts = new long[monies.size()];
+        int i = 0;
+        for (Money money : monies) {
+            MoneyUtils.checkNotNull(money, "Money collection must not contain null entries");
+            if (money.getCurrencyUnit() == currency && money.isAmountLong()) {
+                amounts[i++] = money.getAmountLong();
+            } else {
+                if (currency.equals(money.getCurrencyUnit()) == false) {
+                    throw new CurrencyMismatchException(currency, money.getCurrencyUnit());
+                }
+                amounts[i++] = money.getAmountMinorLong();
+            }
+        }
+        return new MoneyArray(currency, amounts);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Constructor, which assigns the array without copying.
+     *
+     * @param currency  the currency, not null
+     * @param amounts  the amounts in minor units, not null
+     */
+    private MoneyArray(CurrencyUnit currency, long[] amounts) {
+        this.currency = currency;
+        this.amounts = amounts;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the currency.
+     * 
+     * @return the currency, never null
+     */
+    public CurrencyUnit getCurrencyUnit() {
+        return currency;
+    }
+
+    /**
+     * Gets the number of amounts.
+     * 
+     * @return the size, zero or greater
+     */
+    public int size() {
+        return amounts.length;
+    }
+
+    /**
+     * Gets the amount at the specified index.
+     * 
+     * @param index  the zero-based index
+     * @return the amount, never null
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public Money get(int index) {
+        return Money.ofMinor(currency, amounts[index]);
+    }
+
+    /**
+     * Gets the amount at the specified index in minor units.
+     * 
+     * @param index  the zero-based index
+     * @return the amount in minor units
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public long getAmountMinorLong(int index) {
+        return amounts[index];
+    }
+
+    /**
+     * Gets a copy of the amounts in minor units.
+     * 
+     * @return the amounts in minor units, never null
+     */
+    public long[] toAmountMinorArray() {
+        return amounts.clone();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Returns a copy of this array with each amount added to the matching amount in another array.
+     * <p>
+     * This instance is immutable and unaffected by this method.
+     * 
+     * @param other  the amounts to add, same currency and size, not null
+     * @return the new instance with the amounts added, never null
+     * @throws CurrencyMismatchException if the currencies differ
+     * @throws IllegalArgumentException if the sizes differ
+     * @throws ArithmeticException if an amount exceeds the capacity of a {@code long} in minor units
+     */
+    public MoneyArray plus(MoneyArray other) {
+        long[] otherAmounts = checkCompatible(other);
+        long[] result = new long[amounts.length];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = Math.addExact(amounts[i], otherAmounts[i]);
+        }
+        return new MoneyArray(currency, result);
+    }
+
+    /**
+     * Returns a copy of this array with each amount multiplied by the specified value,
+     * rounding to the scale of the currency.
+     * <p>
+     * Each amount matches that of {@link Money#multipliedBy(BigDecimal, RoundingMode)}.
+     * <p>
+     * This instance is immutable and unaffected by this method.
+     * 
+     * @param valueToMultiplyBy  the scalar value to multiply by, not null
+     * @param roundingMode  the rounding mode to use, not null
+     * @return the new instance with the amounts multiplied, never null
+     * @throws ArithmeticException if the rounding fails
+     * @throws ArithmeticException if an amount exceeds the capacity of a {@code long} in minor units
+     */
+    public MoneyArray multipliedBy(BigDecimal valueToMultiplyBy, RoundingMode roundingMode) {
+        MoneyUtils.checkNotNull(valueToMultiplyBy, "Multiplier must not be null");
+        return multipliedBy(MoneyRate.of(valueToMultiplyBy, roundingMode));
+    }
+
+    /**
+     * Returns a copy of this array with the rate applied to each amount.
+     * <p>
+     * Each amount matches that of {@link MoneyRate#apply(Money)}.
+     * <p>
+     * This instance is immutable and unaffected by this method.
+     * 
+     * @param rate  the rate to apply, not null
+     * @return the new instance with the amounts multiplied, never null
+     * @throws ArithmeticException if the rounding fails
+     * @throws ArithmeticException if an amount exceeds the capacity of a {@code long} in minor units
+     */
+    public MoneyArray multipliedBy(MoneyRate rate) {
+        MoneyUtils.checkNotNull(rate, "MoneyRate must not be null");
+        return new MoneyArray(currency, rate.applyMinor(amounts));
+    }
+
+    /**
+     * Returns a copy of this array with each amount rounded to the smallest amount used in cash.
+     * <p>
+     * Each amount matches that of {@link Money#roundedToCash(RoundingMode)}.
+     * <p>
+     * This instance is immutable and unaffected by this method.
+     * 
+     * @param roundingMode  the rounding mode to use, not null
+     * @return the new instance with the amounts rounded, never null
+     * @throws ArithmeticException if the rounding fails
+     * @throws ArithmeticException if an amount exceeds the capacity of a {@code long} in minor units
+     */
+    public MoneyArray roundedToCash(RoundingMode roundingMode) {
+        MoneyUtils.checkNotNull(roundingMode, "RoundingMode must not be null");
+        int increment = currency.getCashIncrementMinor();
+        if (increment == 1) {
+            return this;
+        }
+        long[] result = new long[amounts.length];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = Math.multiplyExact(MoneyMath.divide(amounts[i], increment, roundingMode), increment);
+        }
+        return new MoneyArray(currency, result);
+    }
+
+    /**
+     * Returns a copy of this array with each amount negated.
+     * <p>
+     * This instance is immutable and unaffected by this method.
+     * 
+     * @return the new instance with the amounts negated, never null
+     * @throws ArithmeticException if an amount exceeds the capacity of a {@code long} in minor units
+     */
+    public MoneyArray negated() {
+        long[] result = new long[amounts.length];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = Math.negateExact(amounts[i]);
+        }
+        return new MoneyArray(currency, result);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the total of the amounts.
+     * <p>
+     * The total of an empty array is zero.
+     * The total may exceed the capacity of a {@code long} in minor units.
+     * 
+     * @return the total, never null
+     */
+    public Money sum() {
+        try {
+            return Money.ofMinor(currency, MoneyKernels.sumExact(amounts));
+        } catch (ArithmeticException ex) {
+            // too large for a long, fall through
+        }
+        MoneyAccumulator accumulator = MoneyAccumulator.of(currency);
+        for (int i = 0; i < amounts.length; i++) {
+            accumulator.addMinor(amounts[i]);
+        }
+        return accumulator.toMoney();
+    }
+
+    /**
+     * Gets the minimum amount.
+     * 
+     * @return the minimum, never null
+     * @throws IllegalStateException if the array is empty
+     */
+    public Money min() {
+        checkNotEmpty();
+        return Money.ofMinor(currency, MoneyKernels.min(amounts));
+    }
+
+    /**
+     * Gets the maximum amount.
+     * 
+     * @return the maximum, never null
+     * @throws IllegalStateException if the array is empty
+     */
+    public Money max() {
+        checkNotEmpty();
+        return Money.ofMinor(currency, MoneyKernels.max(amounts));
+    }
+
+    /**
+     * Compares each amount to the matching amount in another array.
+     * <p>
+     * Each element of the result is negative, zero or positive as the amount in
+     * this array is less than, equal to or greater than the amount in the other.
+     * 
+     * @param other  the amounts to compare to, same currency and size, not null
+     * @return the comparison of each amount, never null
+     * @throws CurrencyMismatchException if the currencies differ
+     * @throws IllegalArgumentException if the sizes differ
+     */
+    public int[] compare(MoneyArray other) {
+        return MoneyKernels.compare(amounts, checkCompatible(other));
+    }
+
+    /**
+     * Returns an array of the amounts greater than the threshold, retaining their order.
+     * <p>
+     * This instance is immutable and unaffected by this method.
+     * 
+     * @param threshold  the threshold, same currency, not null
+     * @return the new instance with the selected amounts, never null
+     * @throws CurrencyMismatchException if the currencies differ
+     * @throws ArithmeticException if the threshold exceeds the capacity of a {@code long} in minor units
+     */
+    public MoneyArray filterGreaterThan(Money threshold) {
+        return new MoneyArray(currency, MoneyKernels.filterGreaterThan(amounts, checkThreshold(threshold)));
+    }
+
+    /**
+     * Returns an array of the amounts less than the threshold, retaining their order.
+     * <p>
+     * This instance is immutable and unaffected by this method.
+     * 
+     * @param threshold  the threshold, same currency, not null
+     * @return the new instance with the selected amounts, never null
+     * @throws CurrencyMismatchException if the currencies differ
+     * @throws ArithmeticException if the threshold exceeds the capacity of a {@code long} in minor units
+     */
+    public MoneyArray filterLessThan(Money threshold) {
+        return new MoneyArray(currency, MoneyKernels.filterLessThan(amounts, checkThreshold(threshold)));
+    }
+
+    //-----------------------------------------------------------------------
+    // validates that the other array has the same currency and size
+    private long[] checkCompatible(MoneyArray other) {
+        MoneyUtils.checkNotNull(other, "MoneyArray must not be null");
+        if (currency.equals(other.currency) == false) {
+            throw new CurrencyMismatchException(currency, other.currency);
+        }
+        if (amounts.length != other.amounts.length) {
+            throw new IllegalArgumentException("MoneyArray sizes differ: " + amounts.length + " and " + other.amounts.length);
+        }
+        return other.amounts;
+    }
+
+    // validates that the threshold has the same currency, returning the amount in minor units
+    private long checkThreshold(Money threshold) {
+        MoneyUtils.checkNotNull(threshold, "Threshold must not be null");
+        if (currency.equals(threshold.getCurrencyUnit()) == false) {
+            throw new CurrencyMismatchException(currency, threshold.getCurrencyUnit());
+        }
+        return threshold.getAmountMinorLong();
+    }
+
+    // validates that the array is not empty
+    private void checkNotEmpty() {
+        if (amounts.length == 0) {
+            throw new IllegalStateException("MoneyArray must not be empty");
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets an iterator over the amounts.
+     * 
+     * @return the iterator, never null
+     */
+    @Override
+    public Iterator<Money> iterator() {
+        return new Iterator<Money>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < amounts.length;
+            }
+
+            @Override
+            public Money next() {
+                if (index >= amounts.length) {
+                    throw new NoSuchElementException();
+                }
+                return get(index++);
+            }
+        };
+    }
+
+    /**
+     * Gets a spliterator over the amounts.
+     * <p>
+     * The spliterator is sized and splits evenly, suitable for parallel streams.
+     * 
+     * @return the spliterator, never null
+     */
+    @Override
+    public Spliterator<Money> spliterator() {
+        return new MoneySpliterator(0, amounts.length);
+    }
+
+    /**
+     * Gets a sequential stream of the amounts.
+     * 
+     * @return the stream, never null
+     */
+    public Stream<Money> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Gets a parallel stream of the amounts.
+     * 
+     * @return the stream, never null
+     */
+    public Stream<Money> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if this array equals another array.
+     * <p>
+     * The comparison checks the currency and each amount.
+     * 
+     * @param other  the other object, null returns false
+     * @return true if this instance equals the other instance
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other instanceof MoneyArray) {
+            MoneyArray otherArray = (MoneyArray) other;
+            return currency.equals(otherArray.currency) &&
+                    Arrays.equals(amounts, otherArray.amounts);
+        }
+        return false;
+    }
+
+    /**
+     * Returns a hash code for this array.
+     * 
+     * @return a suitable hash code
+     */
+    @Override
+    public int hashCode() {
+        return currency.hashCode() ^ Arrays.hashCode(amounts);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the array as a string.
+     * <p>
+     * The format is the 3 letter ISO currency code, followed by a space,
+     * followed by the amounts in square brackets, for example 'GBP [1.23, 4.56]'.
+     * 
+     * @return the string representation of this array, never null
+     */
+    @Override
+    public String toString() {
+        int scale = currency.getDecimalPlaces();
+        StringBuilder buf = new StringBuilder(amounts.length * 8 + 6);
+        buf.append(currency.getCode()).append(" [");
+        for (int i = 0; i < amounts.length; i++) {
+            if (i > 0) {
+                buf.append(", ");
+            }
+            buf.append(BigDecimal.valueOf(amounts[i], scale).toPlainString());
+        }
+        return buf.append(']').toString();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Spliterator over a range of the amounts.
+     */
+    private final class MoneySpliterator implements Spliterator<Money> {
+        /** The current index, inclusive. */
+        private int index;
+        /** The end index, exclusive. */
+        private final int end;
+
+        MoneySpliterator(int index, int end) {
+            this.index = index;
+            this.end = end;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Money> action) {
+            MoneyUtils.checkNotNull(action, "Consumer must not be null");
+            if (index < end) {
+                action.accept(get(index++));
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super Money> action) {
+            MoneyUtils.checkNotNull(action, "Consumer must not be null");
+            for (int i = index; i < end; i++) {
+                action.accept(get(i));
+            }
+            index = end;
+        }
+
+        @Override
+        public Spliterator<Money> trySplit() {
+            int mid = (index + end) >>> 1;
+            if (mid <= index) {
+                return null;
+            }
+            MoneySpliterator prefix = new MoneySpliterator(index, mid);
+            index = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return end - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | IMMUTABLE | NONNULL;
+        }
+    }
+
+}
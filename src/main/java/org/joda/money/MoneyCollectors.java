@@ -0,0 +1,211 @@
+/*
+ *  Copyright 2009-present, Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.money;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
+/**
+ * Provides stream collectors for monetary amounts.
+ * <p>
+ * Each collector accumulates into a mutable container, avoiding the creation
+ * of an immutable object for each element, and supports parallel streams.
+ * The totals match those of {@link Money#total(CurrencyUnit, Iterable)} and
+ * {@link BigMoney#total(Iterable)}, including the errors for null elements and
+ * mismatched currencies.
+ * <p>
+ * This class is a thread-safe static utility class.
+ */
+public final class MoneyCollectors {
+
+    /**
+     * Private constructor.
+     */
+    private MoneyCollectors() {
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains a collector that totals {@code Money} in the specified currency.
+     * <p>
+     * The result matches {@link Money#total(CurrencyUnit, Iterable)}.
+     * The total of an empty stream is zero.
+     * 
+     * @param currency  the currency to total in, not null
+     * @return the collector, never null
+     */
+    public static Collector<Money, ?, Money> summingMoney(CurrencyUnit currency) {
+        MoneyUtils.checkNotNull(currency, "CurrencyUnit must not be null");
+        return Collector.of(
+                () -> MoneyAccumulator.of(currency),
+                MoneyAccumulator::add,
+                MoneyAccumulator::add,
+                MoneyAccumulator::toMoney,
+                Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * Obtains a collector that totals {@code BigMoney}.
+     * <p>
+     * The result matches {@link BigMoney#total(Iterable)}, including the scale.
+     * The currency is determined by the first element.
+     * 
+     * @return the collector, never null
+     * @throws IllegalArgumentException from the collector if the stream is empty
+     */
+    public static Collector<BigMoneyProvider, ?, BigMoney> summingBigMoney() {
+        return Collector.of(
+                BigMoneyTotal::new,
+                BigMoneyTotal::add,
+                BigMoneyTotal::combine,
+                BigMoneyTotal::toBigMoney);
+    }
+
+    /**
+     * Obtains a collector that totals {@code Money} by currency.
+     * <p>
+     * The result is an unmodifiable map sorted by currency, see {@link MultiCurrencyTotal}.
+     * 
+     * @return the collector, never null
+     */
+    public static Collector<Money, ?, Map<CurrencyUnit, Money>> groupingByCurrency() {
+        return Collector.of(
+                MultiCurrencyTotal::create,
+                MultiCurrencyTotal::add,
+                MultiCurrencyTotal::merge,
+                MultiCurrencyTotal::toMoneyMap,
+                Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * Obtains a collector that averages {@code Money}.
+     * <p>
+     * The average is the total divided by the count, see {@link MoneySummaryStatistics#getAverage(RoundingMode)}.
+     * As there is no currency, the average of an empty stream cannot be determined.
+     * 
+     * @param roundingMode  the rounding mode to use, not null
+     * @return the collector, never null
+     * @throws IllegalStateException from the collector if the stream is empty
+     */
+    public static Collector<Money, ?, Money> averagingMoney(RoundingMode roundingMode) {
+        MoneyUtils.checkNotNull(roundingMode, "RoundingMode must not be null");
+        return Collector.of(
+                MoneySummaryStatistics::create,
+                MoneySummaryStatistics::accept,
+                MoneySummaryStatistics::combine,
+                stats -> stats.getAverage(roundingMode),
+                Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * Obtains a collector that finds the minimum {@code Money}.
+     * <p>
+     * The amounts are compared using {@link Money#compareTo(BigMoneyProvider)}.
+     * 
+     * @return the collector, never null
+     */
+    public static Collector<Money, ?, Optional<Money>> minMoney() {
+        return Collectors.minBy(Comparator.<Money>naturalOrder());
+    }
+
+    /**
+     * Obtains a collector that finds the maximum {@code Money}.
+     * <p>
+     * The amounts are compared using {@link Money#compareTo(BigMoneyProvider)}.
+     * 
+     * @return the collector, never null
+     */
+    public static Collector<Money, ?, Optional<Money>> maxMoney() {
+        return Collectors.maxBy(Comparator.<Money>naturalOrder());
+    }
+
+    /**
+     * Obtains a collector that summarizes {@code Money}.
+     * <p>
+     * The result holds the count, sum, minimum and maximum.
+     * 
+     * @return the collector, never null
+     */
+    public static Collector<Money, ?, MoneySummaryStatistics> summarizingMoney() {
+        return Collector.of(
+                MoneySummaryStatistics::create,
+                MoneySummaryStatistics::accept,
+                MoneySummaryStatistics::combine,
+                Collector.Characteristics.IDENTITY_FINISH);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Mutable container for totalling {@code BigMoney}.
+     * <p>
+     * {@code BigMoney.plus} ignores the scale of a zero amount, thus the scale of
+     * the result is the scale of the first element or any non-zero element.
+     */
+    private static final class BigMoneyTotal {
+        /** The total, null until the first element. */
+        private MoneyAccumulator total;
+        /** The scale of the result, if this is the first container. */
+        private int scale;
+        /** The largest scale of a non-zero element. */
+        private int nonZeroScale;
+
+        void add(BigMoneyProvider moneyProvider) {
+            BigMoney money = BigMoney.of(moneyProvider);
+            int moneyScale = money.getScale();
+            if (total == null) {
+                total = MoneyAccumulator.of(money);
+                scale = moneyScale;
+            } else {
+                total.add(money);
+            }
+            if (money.isZero() == false) {
+                scale = Math.max(scale, moneyScale);
+                nonZeroScale = Math.max(nonZeroScale, moneyScale);
+            }
+        }
+
+        BigMoneyTotal combine(BigMoneyTotal other) {
+            if (other.total == null) {
+                return this;
+            }
+            if (total == null) {
+                return other;
+            }
+            total.add(other.total);
+            scale = Math.max(scale, other.nonZeroScale);
+            nonZeroScale = Math.max(nonZeroScale, other.nonZeroScale);
+            return this;
+        }
+
+        BigMoney toBigMoney() {
+            if (total == null) {
+                throw new IllegalArgumentException("Money stream must not be empty");
+            }
+            BigMoney money = total.toBigMoney();
+            BigDecimal amount = money.getAmount();
+            if (amount.scale() == scale) {
+                return money;
+            }
+            return BigMoney.of(money.getCurrencyUnit(), amount.setScale(scale));
+        }
+    }
+
+}
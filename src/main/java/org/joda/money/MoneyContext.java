@@ -0,0 +1,278 @@
+/*
+ *  Copyright 2009-present, Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.money;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Limits on the scale and precision of amounts produced by {@code BigMoney} arithmetic.
+ * <p>
+ * Multiplying a {@code BigMoney} keeps every digit of the product, so the scale grows
+ * with each step, as does the cost of later steps.
+ * A context holds a maximum scale and a rounding mode, and optionally a {@code MathContext}.
+ * When a context is applied to a result, the math context is applied first, if present,
+ * then the result is rounded to the maximum scale if its scale is greater.
+ * <p>
+ * A context is applied by passing it to methods such as
+ * {@link BigMoney#multipliedBy(BigDecimal, MoneyContext)}.
+ * It is also applied automatically by {@link BigMoney#multipliedBy(BigDecimal)},
+ * {@link BigMoney#multipliedBy(double)} and {@link BigMoney#convertedTo(CurrencyUnit, BigDecimal)}
+ * while code runs within {@link #run(Runnable)} or {@link #call(Supplier)}.
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+public final class MoneyContext implements Serializable {
+
+    /**
+     * The serialization version.
+     */
+    private static final long serialVersionUID = 1L;
+    /**
+     * The context applied by default in the current thread.
+     */
+    private static final ThreadLocal<MoneyContext> THREAD_DEFAULT = new ThreadLocal<>();
+
+    /**
+     * The maximum scale, zero or greater.
+     */
+    private final int maxScale;
+    /**
+     * The rounding mode, not null.
+     */
+    private final RoundingMode roundingMode;
+    /**
+     * The math context, null if none.
+     */
+    private final MathContext mathContext;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains a context that limits the scale.
+     *
+     * @param maxScale  the maximum scale of a result, zero or greater
+     * @param roundingMode  the rounding mode used to reduce the scale, not null
+     * @return the context, never null
+     * @throws IllegalArgumentException if the maximum scale is negative
+     */
+    public static MoneyContext of(int maxScale, RoundingMode roundingMode) {
+        return of(maxScale, roundingMode, null);
+    }
+
+    /**
+     * Obtains a context that limits the scale and applies a math context.
+     *
+     * @param maxScale  the maximum scale of a result, zero or greater
+     * @param roundingMode  the rounding mode used to reduce the scale, not null
+     * @param mathContext  the math context applied before the scale is limited, null if none
+     * @return the context, never null
+     * @throws IllegalArgumentException if the maximum scale is negative
+     */
+    public static MoneyContext of(int maxScale, RoundingMode roundingMode, MathContext mathContext) {
+        MoneyUtils.checkNotNull(roundingMode, "RoundingMode must not be null");
+        if (maxScale < 0) {
+            throw new IllegalArgumentException("Maximum scale must not be negative");
+        }
+        return new MoneyContext(maxScale, roundingMode, mathContext);
+    }
+
+    /**
+     * Gets the context applied by default in the current thread.
+     *
+     * @return the context applied by default, null if none
+     */
+    public static MoneyContext getThreadDefault() {
+        return THREAD_DEFAULT.get();
+    }
+
+    /**
+     * Applies the context of the current thread, if any.
+     *
+     * @param value  the value, not null
+     * @return the value, with the context applied, never null
+     */
+    static BigDecimal applyThreadDefault(BigDecimal value) {
+        MoneyContext context = THREAD_DEFAULT.get();
+        return (context != null ? context.round(value) : value);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Constructor.
+     * 
+     * @param maxScale  the maximum scale
+     * @param roundingMode  the rounding mode, not null
+     * @param mathContext  the math context, may be null
+     */
+    private MoneyContext(int maxScale, RoundingMode roundingMode, MathContext mathContext) {
+        this.maxScale = maxScale;
+        this.roundingMode = roundingMode;
+        this.mathContext = mathContext;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the maximum scale of a result.
+     * 
+     * @return the maximum scale, zero or greater
+     */
+    public int getMaxScale() {
+        return maxScale;
+    }
+
+    /**
+     * Gets the rounding mode used to reduce the scale.
+     * 
+     * @return the rounding mode, never null
+     */
+    public RoundingMode getRoundingMode() {
+        return roundingMode;
+    }
+
+    /**
+     * Gets the math context applied before the scale is limited.
+     * 
+     * @return the math context, null if none
+     */
+    public MathContext getMathContext() {
+        return mathContext;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Applies this context to a value.
+     * <p>
+     * The math context is applied, if present, then the value is rounded
+     * to the maximum scale if its scale is greater.
+     * 
+     * @param value  the value to round, not null
+     * @return the rounded value, never null
+     * @throws ArithmeticException if the rounding fails
+     */
+    public BigDecimal round(BigDecimal value) {
+        MoneyUtils.checkNotNull(value, "Value must not be null");
+        BigDecimal result = (mathContext != null ? value.round(mathContext) : value);
+        return (result.scale() > maxScale ? result.setScale(maxScale, roundingMode) : result);
+    }
+
+    /**
+     * Divides one value by another, applying this context.
+     * <p>
+     * With a math context, the division uses it, then the scale is limited.
+     * Without, the result is rounded to the maximum scale.
+     * 
+     * @param dividend  the value to divide, not null
+     * @param divisor  the value to divide by, not null
+     * @return the result, never null
+     * @throws ArithmeticException if dividing by zero or the rounding fails
+     */
+    BigDecimal divide(BigDecimal dividend, BigDecimal divisor) {
+        if (mathContext != null) {
+            return round(dividend.divide(divisor, mathContext));
+        }
+        return dividend.divide(divisor, maxScale, roundingMode);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Runs an action with this context as the default of the current thread.
+     * <p>
+     * The previous default is restored when the action completes.
+     * 
+     * @param action  the action to run, not null
+     */
+    public void run(Runnable action) {
+        MoneyUtils.checkNotNull(action, "Action must not be null");
+        call(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Calls an action with this context as the default of the current thread.
+     * <p>
+     * The previous default is restored when the action completes.
+     * 
+     * @param <T>  the type of the result
+     * @param action  the action to call, not null
+     * @return the result of the action
+     */
+    public <T> T call(Supplier<T> action) {
+        MoneyUtils.checkNotNull(action, "Action must not be null");
+        MoneyContext previous = THREAD_DEFAULT.get();
+        THREAD_DEFAULT.set(this);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                THREAD_DEFAULT.remove();
+            } else {
+                THREAD_DEFAULT.set(previous);
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if this context equals another context.
+     * 
+     * @param other  the other object, null returns false
+     * @return true if this instance equals the other instance
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other instanceof MoneyContext) {
+            MoneyContext otherContext = (MoneyContext) other;
+            return maxScale == otherContext.maxScale &&
+                    roundingMode == otherContext.roundingMode &&
+                    Objects.equals(mathContext, otherContext.mathContext);
+        }
+        return false;
+    }
+
+    /**
+     * Returns a hash code for this context.
+     * 
+     * @return a suitable hash code
+     */
+    @Override
+    public int hashCode() {
+        return maxScale ^ roundingMode.hashCode() ^ Objects.hashCode(mathContext);
+    }
+
+    /**
+     * Gets the context as a string.
+     * <p>
+     * The format is the maximum scale, rounding mode and math context,
+     * such as 'MoneyContext[maxScale=6, HALF_EVEN]'.
+     * 
+     * @return the string representation of this context, never null
+     */
+    @Override
+    public String toString() {
+        return "MoneyContext[maxScale=" + maxScale + ", " + roundingMode +
+                (mathContext != null ? ", " + mathContext : "") + "]";
+    }
+
+}
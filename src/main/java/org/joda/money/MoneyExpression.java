@@ -0,0 +1,301 @@
+/*
+ *  Copyright 2009-present, Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.money;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * A reusable calculation on a monetary amount, rounded once at the end.
+ * <p>
+ * Chaining methods on {@code BigMoney} or {@code Money} creates an intermediate
+ * object at each step, and either grows the scale or rounds at each division.
+ * This class records the steps instead, for example:
+ * <pre>
+ *  MoneyExpression price = MoneyExpression.create()
+ *      .multipliedBy(rate)
+ *      .multipliedBy(BigDecimal.ONE.subtract(discount))
+ *      .plus(fee)
+ *      .dividedBy(instalments);
+ *  Money instalment = price.toMoney(amount, RoundingMode.HALF_EVEN);
+ * </pre>
+ * As every step is linear, the steps are combined when the expression is built into
+ * the form {@code (amount * multiplier + offset) / divisor}.
+ * Evaluating the expression for an amount is then a multiplication, an addition and a
+ * single division, with exactly one rounding, however many steps were recorded.
+ * The result may differ from the equivalent chain of {@code Money} methods, which
+ * round at each step.
+ * <p>
+ * Any monetary amounts added or subtracted must be in the same currency,
+ * which must also be the currency of the amounts the expression is evaluated for.
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+public final class MoneyExpression {
+
+    /**
+     * The expression that returns the amount unchanged.
+     */
+    private static final MoneyExpression IDENTITY =
+            new MoneyExpression(null, BigDecimal.ONE, BigDecimal.ZERO, BigDecimal.ONE);
+
+    /**
+     * The currency of the monetary amounts in the expression, null if none.
+     */
+    private final CurrencyUnit currency;
+    /**
+     * The multiplier of the amount, not null.
+     */
+    private final BigDecimal multiplier;
+    /**
+     * The amount added after multiplying, before dividing, not null.
+     */
+    private final BigDecimal offset;
+    /**
+     * The divisor applied last, not zero, not null.
+     */
+    private final BigDecimal divisor;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains an expression that returns the amount unchanged.
+     * <p>
+     * Steps are added to the expression using the other methods on this class.
+     *
+     * @return the identity expression, never null
+     */
+    public static MoneyExpression create() {
+        return IDENTITY;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Constructor.
+     * 
+     * @param currency  the currency, null if none
+     * @param multiplier  the multiplier, not null
+     * @param offset  the offset, not null
+     * @param divisor  the divisor, not null
+     */
+    private MoneyExpression(CurrencyUnit currency, BigDecimal multiplier, BigDecimal offset, BigDecimal divisor) {
+        this.currency = currency;
+        this.multiplier = multiplier;
+        this.offset = offset;
+        this.divisor = divisor;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Returns an expression that adds a monetary amount.
+     * 
+     * @param moneyToAdd  the monetary value to add, not null
+     * @return the new expression, never null
+     * @throws CurrencyMismatchException if the currency differs from that of earlier amounts
+     */
+    public MoneyExpression plus(BigMoneyProvider moneyToAdd) {
+        BigMoney money = BigMoney.of(moneyToAdd);
+        CurrencyUnit newCurrency = checkCurrency(money.getCurrencyUnit());
+        return new MoneyExpression(newCurrency, multiplier, offset.add(money.getAmount().multiply(divisor)), divisor);
+    }
+
+    /**
+     * Returns an expression that adds an amount in the currency of the evaluated amount.
+     * 
+     * @param amountToAdd  the amount to add, not null
+     * @return the new expression, never null
+     */
+    public MoneyExpression plus(BigDecimal amountToAdd) {
+        MoneyUtils.checkNotNull(amountToAdd, "Amount must not be null");
+        return new MoneyExpression(currency, multiplier, offset.add(amountToAdd.multiply(divisor)), divisor);
+    }
+
+    /**
+     * Returns an expression that subtracts a monetary amount.
+     * 
+     * @param moneyToSubtract  the monetary value to subtract, not null
+     * @return the new expression, never null
+     * @throws CurrencyMismatchException if the currency differs from that of earlier amounts
+     */
+    public MoneyExpression minus(BigMoneyProvider moneyToSubtract) {
+        BigMoney money = BigMoney.of(moneyToSubtract);
+        CurrencyUnit newCurrency = checkCurrency(money.getCurrencyUnit());
+        return new MoneyExpression(newCurrency, multiplier, offset.subtract(money.getAmount().multiply(divisor)), divisor);
+    }
+
+    /**
+     * Returns an expression that subtracts an amount in the currency of the evaluated amount.
+     * 
+     * @param amountToSubtract  the amount to subtract, not null
+     * @return the new expression, never null
+     */
+    public MoneyExpression minus(BigDecimal amountToSubtract) {
+        MoneyUtils.checkNotNull(amountToSubtract, "Amount must not be null");
+        return new MoneyExpression(currency, multiplier, offset.subtract(amountToSubtract.multiply(divisor)), divisor);
+    }
+
+    /**
+     * Returns an expression that multiplies by a value.
+     * 
+     * @param valueToMultiplyBy  the scalar value to multiply by, not null
+     * @return the new expression, never null
+     */
+    public MoneyExpression multipliedBy(BigDecimal valueToMultiplyBy) {
+        MoneyUtils.checkNotNull(valueToMultiplyBy, "Multiplier must not be null");
+        if (valueToMultiplyBy.compareTo(BigDecimal.ONE) == 0) {
+            return this;
+        }
+        return new MoneyExpression(
+                currency, multiplier.multiply(valueToMultiplyBy), offset.multiply(valueToMultiplyBy), divisor);
+    }
+
+    /**
+     * Returns an expression that multiplies by a value.
+     * <p>
+     * The value is converted via {@link BigDecimal#valueOf(double)}.
+     * 
+     * @param valueToMultiplyBy  the scalar value to multiply by
+     * @return the new expression, never null
+     */
+    public MoneyExpression multipliedBy(double valueToMultiplyBy) {
+        return multipliedBy(MoneyMath.toBigDecimal(valueToMultiplyBy));
+    }
+
+    /**
+     * Returns an expression that multiplies by a value.
+     * 
+     * @param valueToMultiplyBy  the scalar value to multiply by
+     * @return the new expression, never null
+     */
+    public MoneyExpression multipliedBy(long valueToMultiplyBy) {
+        return multipliedBy(BigDecimal.valueOf(valueToMultiplyBy));
+    }
+
+    /**
+     * Returns an expression that divides by a value.
+     * <p>
+     * The division is performed when the expression is evaluated,
+     * so no rounding occurs at this step.
+     * 
+     * @param valueToDivideBy  the scalar value to divide by, not null
+     * @return the new expression, never null
+     * @throws ArithmeticException if dividing by zero
+     */
+    public MoneyExpression dividedBy(BigDecimal valueToDivideBy) {
+        MoneyUtils.checkNotNull(valueToDivideBy, "Divisor must not be null");
+        if (valueToDivideBy.signum() == 0) {
+            throw new ArithmeticException("Division by zero");
+        }
+        if (valueToDivideBy.compareTo(BigDecimal.ONE) == 0) {
+            return this;
+        }
+        return new MoneyExpression(currency, multiplier, offset, divisor.multiply(valueToDivideBy));
+    }
+
+    /**
+     * Returns an expression that divides by a value.
+     * <p>
+     * The division is performed when the expression is evaluated,
+     * so no rounding occurs at this step.
+     * 
+     * @param valueToDivideBy  the scalar value to divide by
+     * @return the new expression, never null
+     * @throws ArithmeticException if dividing by zero
+     */
+    public MoneyExpression dividedBy(long valueToDivideBy) {
+        return dividedBy(BigDecimal.valueOf(valueToDivideBy));
+    }
+
+    /**
+     * Returns an expression that negates the amount.
+     * 
+     * @return the new expression, never null
+     */
+    public MoneyExpression negated() {
+        return new MoneyExpression(currency, multiplier.negate(), offset.negate(), divisor);
+    }
+
+    // checks the currency matches that of any earlier amount
+    private CurrencyUnit checkCurrency(CurrencyUnit other) {
+        if (currency != null && currency.equals(other) == false) {
+            throw new CurrencyMismatchException(currency, other);
+        }
+        return other;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Evaluates this expression, rounding the result once to the scale of the currency.
+     * 
+     * @param money  the monetary amount to evaluate the expression for, not null
+     * @param roundingMode  the rounding mode to use, not null
+     * @return the result, never null
+     * @throws CurrencyMismatchException if the currency differs from that of the amounts in the expression
+     * @throws ArithmeticException if the rounding fails
+     */
+    public Money toMoney(BigMoneyProvider money, RoundingMode roundingMode) {
+        MoneyUtils.checkNotNull(roundingMode, "RoundingMode must not be null");
+        BigMoney input = BigMoney.of(money);
+        CurrencyUnit inputCurrency = input.getCurrencyUnit();
+        checkCurrency(inputCurrency);
+        return Money.of(inputCurrency, evaluate(input.getAmount(), inputCurrency.getDecimalPlaces(), roundingMode));
+    }
+
+    /**
+     * Evaluates this expression, rounding the result once to the specified scale.
+     * 
+     * @param money  the monetary amount to evaluate the expression for, not null
+     * @param scale  the scale of the result, may be negative, but typically zero or positive
+     * @param roundingMode  the rounding mode to use, not null
+     * @return the result, never null
+     * @throws CurrencyMismatchException if the currency differs from that of the amounts in the expression
+     * @throws ArithmeticException if the rounding fails
+     */
+    public BigMoney toBigMoney(BigMoneyProvider money, int scale, RoundingMode roundingMode) {
+        MoneyUtils.checkNotNull(roundingMode, "RoundingMode must not be null");
+        BigMoney input = BigMoney.of(money);
+        CurrencyUnit inputCurrency = input.getCurrencyUnit();
+        checkCurrency(inputCurrency);
+        return BigMoney.of(inputCurrency, evaluate(input.getAmount(), scale, roundingMode));
+    }
+
+    // evaluates the expression with a single rounding
+    private BigDecimal evaluate(BigDecimal amount, int scale, RoundingMode roundingMode) {
+        BigDecimal numerator = amount.multiply(multiplier);
+        if (offset.signum() != 0) {
+            numerator = numerator.add(offset);
+        }
+        if (divisor.compareTo(BigDecimal.ONE) == 0) {
+            return numerator.setScale(scale, roundingMode);
+        }
+        return numerator.divide(divisor, scale, roundingMode);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the expression as a string.
+     * <p>
+     * The format is the combined form of the expression,
+     * such as 'MoneyExpression[(amount * 1.2 + 3.5) / 4]'.
+     * 
+     * @return the string representation of this expression, never null
+     */
+    @Override
+    public String toString() {
+        return "MoneyExpression[(amount * " + multiplier.toPlainString() + " + " + offset.toPlainString() + ") / " +
+                divisor.toPlainString() + "]";
+    }
+
+}
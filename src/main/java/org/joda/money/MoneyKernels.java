@@ -0,0 +1,196 @@
+/*
+ *  Copyright 2009-present, Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.money;
+
+import java.util.Arrays;
+
+/**
+ * A package scoped class providing bulk operations on arrays of {@code long} amounts.
+ * <p>
+ * The loops avoid branches and method calls that depend on the data, such as
+ * {@code Math.addExact}, so that the JIT compiler can unroll and vectorize them.
+ * Overflow is tracked in a flag and checked once at the end.
+ * <p>
+ * This class contains thread-safe static methods.
+ */
+final class MoneyKernels {
+
+    /**
+     * Private constructor.
+     */
+    private MoneyKernels() {
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Sums the values, throwing an exception if the total overflows.
+     * <p>
+     * The values are summed in four independent lanes.
+     * An exception may be thrown if an intermediate total overflows even though
+     * the final total would fit, thus callers should fall back to a wider total.
+     * 
+     * @param values  the values to sum, not null
+     * @return the total
+     * @throws ArithmeticException if the total overflows
+     */
+    static long sumExact(long[] values) {
+        long sum0 = 0;
+        long sum1 = 0;
+        long sum2 = 0;
+        long sum3 = 0;
+        long overflow = 0;
+        int end = values.length & ~3;
+        int i = 0;
+        for (; i < end; i += 4) {
+            long value0 = values[i];
+            long value1 = values[i + 1];
+            long value2 = values[i + 2];
+            long value3 = values[i + 3];
+            long result0 = sum0 + value0;
+            long result1 = sum1 + value1;
+            long result2 = sum2 + value2;
+            long result3 = sum3 + value3;
+            // overflow occurred if both inputs have a different sign to the result
+            overflow |= ((sum0 ^ result0) & (value0 ^ result0)) | ((sum1 ^ result1) & (value1 ^ result1)) |
+                    ((sum2 ^ result2) & (value2 ^ result2)) | ((sum3 ^ result3) & (value3 ^ result3));
+            sum0 = result0;
+            sum1 = result1;
+            sum2 = result2;
+            sum3 = result3;
+        }
+        for (; i < values.length; i++) {
+            long value = values[i];
+            long result = sum0 + value;
+            overflow |= (sum0 ^ result) & (value ^ result);
+            sum0 = result;
+        }
+        if (overflow < 0) {
+            throw new ArithmeticException("long overflow");
+        }
+        return Math.addExact(Math.addExact(sum0, sum1), Math.addExact(sum2, sum3));
+    }
+
+    /**
+     * Finds the minimum value.
+     * 
+     * @param values  the values to search, not empty, not null
+     * @return the minimum
+     */
+    static long min(long[] values) {
+        long min0 = values[0];
+        long min1 = min0;
+        long min2 = min0;
+        long min3 = min0;
+        int end = values.length & ~3;
+        int i = 0;
+        for (; i < end; i += 4) {
+            min0 = Math.min(min0, values[i]);
+            min1 = Math.min(min1, values[i + 1]);
+            min2 = Math.min(min2, values[i + 2]);
+            min3 = Math.min(min3, values[i + 3]);
+        }
+        for (; i < values.length; i++) {
+            min0 = Math.min(min0, values[i]);
+        }
+        return Math.min(Math.min(min0, min1), Math.min(min2, min3));
+    }
+
+    /**
+     * Finds the maximum value.
+     * 
+     * @param values  the values to search, not empty, not null
+     * @return the maximum
+     */
+    static long max(long[] values) {
+        long max0 = values[0];
+        long max1 = max0;
+        long max2 = max0;
+        long max3 = max0;
+        int end = values.length & ~3;
+        int i = 0;
+        for (; i < end; i += 4) {
+            max0 = Math.max(max0, values[i]);
+            max1 = Math.max(max1, values[i + 1]);
+            max2 = Math.max(max2, values[i + 2]);
+            max3 = Math.max(max3, values[i + 3]);
+        }
+        for (; i < values.length; i++) {
+            max0 = Math.max(max0, values[i]);
+        }
+        return Math.max(Math.max(max0, max1), Math.max(max2, max3));
+    }
+
+    /**
+     * Compares each value to the matching value in another array.
+     * 
+     * @param values  the values, not null
+     * @param others  the values to compare to, same length, not null
+     * @return the comparisons, -1, 0 or 1, never null
+     */
+    static int[] compare(long[] values, long[] others) {
+        int[] result = new int[values.length];
+        for (int i = 0; i < result.length; i++) {
+            long value = values[i];
+            long other = others[i];
+            result[i] = (value > other ? 1 : 0) - (value < other ? 1 : 0);
+        }
+        return result;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Selects the values greater than the threshold, retaining their order.
+     * <p>
+     * Each value is written to the result and the write position only advances if
+     * the value is selected, thus there is no branch on the value.
+     * 
+     * @param values  the values to filter, not null
+     * @param threshold  the threshold
+     * @return the selected values, may be the same length as the input, never null
+     */
+    static long[] filterGreaterThan(long[] values, long threshold) {
+        long[] result = new long[values.length];
+        int size = 0;
+        for (int i = 0; i < values.length; i++) {
+            long value = values[i];
+            result[size] = value;
+            size += value > threshold ? 1 : 0;
+        }
+        return size == result.length ? result : Arrays.copyOf(result, size);
+    }
+
+    /**
+     * Selects the values less than the threshold, retaining their order.
+     * <p>
+     * Each value is written to the result and the write position only advances if
+     * the value is selected, thus there is no branch on the value.
+     * 
+     * @param values  the values to filter, not null
+     * @param threshold  the threshold
+     * @return the selected values, may be the same length as the input, never null
+     */
+    static long[] filterLessThan(long[] values, long threshold) {
+        long[] result = new long[values.length];
+        int size = 0;
+        for (int i = 0; i < values.length; i++) {
+            long value = values[i];
+            result[size] = value;
+            size += value < threshold ? 1 : 0;
+        }
+        return size == result.length ? result : Arrays.copyOf(result, size);
+    }
+
+}
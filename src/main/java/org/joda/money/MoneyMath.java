@@ -0,0 +1,249 @@
+/*
+ *  Copyright 2009-present, Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.money;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * A package scoped class providing arithmetic on unscaled {@code long} amounts.
+ * <p>
+ * This class contains thread-safe static methods.
+ */
+final class MoneyMath {
+
+    /**
+     * The powers of ten that fit in a {@code long}.
+     */
+    private static final long[] POWERS_OF_TEN = {
+        1L,
+        10L,
+        100L,
+        1_000L,
+        10_000L,
+        100_000L,
+        1_000_000L,
+        10_000_000L,
+        100_000_000L,
+        1_000_000_000L,
+        10_000_000_000L,
+        100_000_000_000L,
+        1_000_000_000_000L,
+        10_000_000_000_000L,
+        100_000_000_000_000L,
+        1_000_000_000_000_000L,
+        10_000_000_000_000_000L,
+        100_000_000_000_000_000L,
+        1_000_000_000_000_000_000L,
+    };
+
+    /**
+     * The powers of ten that are exact as a {@code double}, limited to the digits of {@link #MAX_DOUBLE_UNSCALED}.
+     */
+    private static final double[] DOUBLE_POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15,
+    };
+    /**
+     * The limit of the unscaled value when converting a {@code double}, fifteen digits.
+     * Every decimal with fifteen significant digits maps to a distinct {@code double}.
+     */
+    private static final double MAX_DOUBLE_UNSCALED = 1e15;
+    /**
+     * The value returned by {@link #toUnscaledLong(double, int)} if the conversion is not exact.
+     */
+    static final long NOT_EXACT = Long.MIN_VALUE;
+
+    /**
+     * Private constructor.
+     */
+    private MoneyMath() {
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if ten to the power of the specified exponent fits in a {@code long}.
+     * 
+     * @param exponent  the exponent, zero or positive
+     * @return true if {@link #powerOfTen(int)} can be called
+     */
+    static boolean isPowerOfTenLong(int exponent) {
+        return exponent < POWERS_OF_TEN.length;
+    }
+
+    /**
+     * Gets ten to the power of the specified exponent.
+     * 
+     * @param exponent  the exponent, from 0 to 18
+     * @return the power of ten
+     */
+    static long powerOfTen(int exponent) {
+        return POWERS_OF_TEN[exponent];
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Divides one {@code long} by another, rounding the quotient to an integer.
+     * <p>
+     * The result is the same as dividing using {@code BigDecimal} with a scale of zero.
+     * 
+     * @param dividend  the dividend
+     * @param divisor  the divisor, not zero
+     * @param roundingMode  the rounding mode to use, not null
+     * @return the rounded quotient
+     * @throws ArithmeticException if the divisor is zero, the result overflows
+     *  or the rounding mode is {@code UNNECESSARY} and rounding is required
+     */
+    static long divide(long dividend, long divisor, RoundingMode roundingMode) {
+        if (divisor == -1 && dividend == Long.MIN_VALUE) {
+            throw new ArithmeticException("Overflow");
+        }
+        long quotient = dividend / divisor;
+        long remainder = dividend - quotient * divisor;
+        if (remainder == 0) {
+            return quotient;
+        }
+        // the sign of the exact quotient, which may be lost if the quotient is zero
+        int signum = ((dividend ^ divisor) < 0 ? -1 : 1);
+        boolean increment;
+        switch (roundingMode) {
+            case UNNECESSARY:
+                throw new ArithmeticException("Rounding necessary");
+            case DOWN:
+                increment = false;
+                break;
+            case UP:
+                increment = true;
+                break;
+            case FLOOR:
+                increment = signum < 0;
+                break;
+            case CEILING:
+                increment = signum > 0;
+                break;
+            default:
+                // compare the remainder with half the divisor, valid for Long.MIN_VALUE by wrapping
+                long absRemainder = Math.abs(remainder);
+                int cmp = Long.compare(absRemainder, (divisor < 0 ? -divisor : divisor) - absRemainder);
+                if (cmp == 0) {
+                    increment = roundingMode == RoundingMode.HALF_UP ||
+                            (roundingMode == RoundingMode.HALF_EVEN && (quotient & 1) != 0);
+                } else {
+                    increment = cmp > 0;
+                }
+                break;
+        }
+        return increment ? quotient + signum : quotient;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Converts a {@code double} to a {@code BigDecimal}.
+     * <p>
+     * The result is the same as {@link BigDecimal#valueOf(double)}, which uses
+     * {@link Double#toString(double)}, but avoids the string for simple values.
+     * 
+     * @param value  the value to convert
+     * @return the decimal value, never null
+     * @throws NumberFormatException if the value is infinite or NaN
+     */
+    static BigDecimal toBigDecimal(double value) {
+        if (value == 0) {
+            // Double.toString gives "0.0" or "-0.0"
+            return BigDecimal.valueOf(0, 1);
+        }
+        double abs = Math.abs(value);
+        if (abs >= 1e-3 && abs < 1e7) {
+            // Double.toString uses plain notation with at least one fraction digit
+            int scale = shortestScale(value);
+            if (scale == 0) {
+                return BigDecimal.valueOf(Math.round(value) * 10, 1);
+            }
+            if (scale > 0) {
+                return BigDecimal.valueOf(Math.round(value * DOUBLE_POWERS_OF_TEN[scale]), scale);
+            }
+        }
+        return BigDecimal.valueOf(value);
+    }
+
+    /**
+     * Converts a {@code double} to a {@code BigDecimal} without trailing zeros.
+     * <p>
+     * The result is the same as {@code BigDecimal.valueOf(value).stripTrailingZeros()}.
+     * 
+     * @param value  the value to convert
+     * @return the decimal value, never null
+     * @throws NumberFormatException if the value is infinite or NaN
+     */
+    static BigDecimal toBigDecimalStripped(double value) {
+        int scale = shortestScale(value);
+        if (scale < 0) {
+            return BigDecimal.valueOf(value).stripTrailingZeros();
+        }
+        long unscaled = Math.round(value * DOUBLE_POWERS_OF_TEN[scale]);
+        if (unscaled == 0) {
+            return BigDecimal.ZERO;
+        }
+        if (scale == 0) {
+            while (unscaled % 10 == 0) {
+                unscaled /= 10;
+                scale--;
+            }
+        }
+        return BigDecimal.valueOf(unscaled, scale);
+    }
+
+    /**
+     * Converts a {@code double} to an unscaled {@code long} at the specified scale.
+     * <p>
+     * The decimal value of the {@code double} is that of {@link BigDecimal#valueOf(double)}.
+     * 
+     * @param value  the value to convert
+     * @param scale  the scale of the result, zero or greater
+     * @return the unscaled value, {@link #NOT_EXACT} if the value needs rounding or is not simple
+     */
+    static long toUnscaledLong(double value, int scale) {
+        int valueScale = shortestScale(value);
+        if (valueScale < 0 || valueScale > scale || isPowerOfTenLong(scale - valueScale) == false) {
+            return NOT_EXACT;
+        }
+        long unscaled = Math.round(value * DOUBLE_POWERS_OF_TEN[valueScale]);
+        try {
+            return Math.multiplyExact(unscaled, powerOfTen(scale - valueScale));
+        } catch (ArithmeticException ex) {
+            return NOT_EXACT;
+        }
+    }
+
+    // finds the smallest scale at which the double is the nearest double to a decimal
+    // of up to fifteen digits, which is the decimal value of Double.toString(double)
+    // returns -1 if there is no such scale, or the value is not finite
+    private static int shortestScale(double value) {
+        if ((Math.abs(value) < MAX_DOUBLE_UNSCALED) == false) {
+            return -1;
+        }
+        for (int scale = 0; scale < DOUBLE_POWERS_OF_TEN.length; scale++) {
+            double scaled = value * DOUBLE_POWERS_OF_TEN[scale];
+            if (Math.abs(scaled) >= MAX_DOUBLE_UNSCALED) {
+                return -1;
+            }
+            if (Math.round(scaled) / DOUBLE_POWERS_OF_TEN[scale] == value) {
+                return scale;
+            }
+        }
+        return -1;
+    }
+
+}
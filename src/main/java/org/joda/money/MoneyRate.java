@@ -0,0 +1,283 @@
+/*
+ *  Copyright 2009-present, Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.money;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A rate, such as a tax or discount, prepared for applying to many monetary amounts.
+ * <p>
+ * Applying a rate multiplies an amount by the rate and rounds the result to the
+ * scale of the currency, exactly as {@link Money#multipliedBy(BigDecimal, RoundingMode)}.
+ * The rate is converted once into a {@code long} multiplier and a power of ten divisor,
+ * so each amount that fits in a {@code long} is handled with integer arithmetic,
+ * without creating a {@code BigDecimal}.
+ * Where the integer arithmetic would overflow, the rate is applied using {@code BigDecimal}.
+ * <p>
+ * The result of applying a rate to an amount in minor units does not depend on the scale,
+ * so the same rate can be applied to amounts in minor units of any currency.
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+public final class MoneyRate implements Serializable {
+
+    /**
+     * The serialization version.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The rate, not null.
+     */
+    private final BigDecimal rate;
+    /**
+     * The rounding mode, not null.
+     */
+    private final RoundingMode roundingMode;
+    /**
+     * Whether the rate is held as a {@code long} multiplier and divisor.
+     */
+    private final transient boolean longRate;
+    /**
+     * The unscaled rate as a {@code long}, valid if {@code longRate} is true.
+     */
+    private final transient long multiplier;
+    /**
+     * The power of ten to divide by after multiplying, valid if {@code longRate} is true.
+     */
+    private final transient long divisor;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains a rate that rounds using the specified mode.
+     * <p>
+     * For example, {@code of(new BigDecimal("1.2"), RoundingMode.HALF_EVEN)} adds 20%
+     * to each amount, rounding half-even.
+     *
+     * @param rate  the rate to multiply by, not null
+     * @param roundingMode  the rounding mode to use, not null
+     * @return the rate, never null
+     */
+    public static MoneyRate of(BigDecimal rate, RoundingMode roundingMode) {
+        MoneyUtils.checkNotNull(rate, "Rate must not be null");
+        MoneyUtils.checkNotNull(roundingMode, "RoundingMode must not be null");
+        return new MoneyRate(rate, roundingMode);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Constructor.
+     * 
+     * @param rate  the rate, not null
+     * @param roundingMode  the rounding mode, not null
+     */
+    private MoneyRate(BigDecimal rate, RoundingMode roundingMode) {
+        this.rate = rate;
+        this.roundingMode = roundingMode;
+        // the result depends only on the value of the rate, so remove trailing zeros
+        // to keep the multiplier and divisor small
+        BigDecimal stripped = rate.stripTrailingZeros();
+        BigInteger unscaled = stripped.unscaledValue();
+        int scale = stripped.scale();
+        boolean isLong = false;
+        long longMultiplier = 0;
+        long longDivisor = 1;
+        if (unscaled.bitLength() < Long.SIZE) {
+            if (scale >= 0 && MoneyMath.isPowerOfTenLong(scale)) {
+                isLong = true;
+                longMultiplier = unscaled.longValue();
+                longDivisor = MoneyMath.powerOfTen(scale);
+            } else if (scale < 0 && MoneyMath.isPowerOfTenLong(-scale)) {
+                try {
+                    longMultiplier = Math.multiplyExact(unscaled.longValue(), MoneyMath.powerOfTen(-scale));
+                    isLong = true;
+                } catch (ArithmeticException ex) {
+                    // too large for a long, use BigDecimal
+                }
+            }
+        }
+        this.longRate = isLong;
+        this.multiplier = longMultiplier;
+        this.divisor = longDivisor;
+    }
+
+    /**
+     * Ensures the rate is prepared after deserialization.
+     * 
+     * @return the resolved instance, never null
+     */
+    private Object readResolve() {
+        return of(rate, roundingMode);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the rate.
+     * 
+     * @return the rate, never null
+     */
+    public BigDecimal getRate() {
+        return rate;
+    }
+
+    /**
+     * Gets the rounding mode.
+     * 
+     * @return the rounding mode, never null
+     */
+    public RoundingMode getRoundingMode() {
+        return roundingMode;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Applies this rate to a monetary amount.
+     * <p>
+     * The result is the same as {@link Money#multipliedBy(BigDecimal, RoundingMode)}.
+     * 
+     * @param money  the amount to apply the rate to, not null
+     * @return the amount multiplied by the rate, never null
+     * @throws ArithmeticException if the rounding fails
+     */
+    public Money apply(Money money) {
+        MoneyUtils.checkNotNull(money, "Money must not be null");
+        if (money.isAmountLong()) {
+            try {
+                return Money.ofMinor(money.getCurrencyUnit(), applyMinor(money.getAmountLong()));
+            } catch (ArithmeticException ex) {
+                // too large for a long, or rounding failed, fall through
+            }
+        }
+        return money.multipliedBy(rate, roundingMode);
+    }
+
+    /**
+     * Applies this rate to an array of monetary amounts.
+     * 
+     * @param monies  the amounts to apply the rate to, no null elements, not null
+     * @return a new array of the amounts multiplied by the rate, never null
+     * @throws ArithmeticException if the rounding fails
+     */
+    public Money[] applyAll(Money[] monies) {
+        MoneyUtils.checkNotNull(monies, "Money array must not be null");
+        Money[] result = new Money[monies.length];
+        for (int i = 0; i < monies.length; i++) {
+            result[i] = apply(monies[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Applies this rate to a list of monetary amounts.
+     * 
+     * @param monies  the amounts to apply the rate to, no null elements, not null
+     * @return a new mutable list of the amounts multiplied by the rate, never null
+     * @throws ArithmeticException if the rounding fails
+     */
+    public List<Money> applyAll(List<Money> monies) {
+        MoneyUtils.checkNotNull(monies, "Money list must not be null");
+        List<Money> result = new ArrayList<>(monies.size());
+        for (Money money : monies) {
+            result.add(apply(money));
+        }
+        return result;
+    }
+
+    /**
+     * Applies this rate to an amount in minor units.
+     * 
+     * @param amountMinor  the amount in minor units
+     * @return the amount in minor units multiplied by the rate
+     * @throws ArithmeticException if the rounding fails
+     * @throws ArithmeticException if the result exceeds the capacity of a {@code long}
+     */
+    public long applyMinor(long amountMinor) {
+        if (longRate) {
+            try {
+                return MoneyMath.divide(Math.multiplyExact(amountMinor, multiplier), divisor, roundingMode);
+            } catch (ArithmeticException ex) {
+                // too large for a long, or rounding failed, fall through
+            }
+        }
+        return BigDecimal.valueOf(amountMinor).multiply(rate).setScale(0, roundingMode).longValueExact();
+    }
+
+    /**
+     * Applies this rate to an array of amounts in minor units.
+     * 
+     * @param amountsMinor  the amounts in minor units, not null
+     * @return a new array of the amounts multiplied by the rate, never null
+     * @throws ArithmeticException if the rounding fails
+     * @throws ArithmeticException if a result exceeds the capacity of a {@code long}
+     */
+    public long[] applyMinor(long[] amountsMinor) {
+        MoneyUtils.checkNotNull(amountsMinor, "Amounts must not be null");
+        long[] result = new long[amountsMinor.length];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = applyMinor(amountsMinor[i]);
+        }
+        return result;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if this rate equals another rate.
+     * <p>
+     * The comparison takes into account the scale of the rate.
+     * 
+     * @param other  the other object, null returns false
+     * @return true if this instance equals the other instance
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other instanceof MoneyRate) {
+            MoneyRate otherRate = (MoneyRate) other;
+            return rate.equals(otherRate.rate) && roundingMode == otherRate.roundingMode;
+        }
+        return false;
+    }
+
+    /**
+     * Returns a hash code for this rate.
+     * 
+     * @return a suitable hash code
+     */
+    @Override
+    public int hashCode() {
+        return rate.hashCode() ^ roundingMode.hashCode();
+    }
+
+    /**
+     * Gets the rate as a string.
+     * <p>
+     * The format is the rate and rounding mode, such as 'MoneyRate[1.2, HALF_EVEN]'.
+     * 
+     * @return the string representation of this rate, never null
+     */
+    @Override
+    public String toString() {
+        return "MoneyRate[" + rate.toPlainString() + ", " + roundingMode + "]";
+    }
+
+}
@@ -0,0 +1,217 @@
+/*
+ *  Copyright 2009-present, Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.money;
+
+import java.math.RoundingMode;
+import java.util.function.Consumer;
+
+/**
+ * A mutable summary of monetary amounts in a single currency.
+ * <p>
+ * This class gathers the count, sum, minimum and maximum of the amounts accepted.
+ * It is designed to work with streams, see {@link MoneyCollectors#summarizingMoney()}.
+ * The currency is determined by the first amount accepted.
+ * <p>
+ * This class is mutable and intended for use by a single thread.
+ */
+public final class MoneySummaryStatistics implements Consumer<Money> {
+
+    /**
+     * The sum, null if no amounts have been accepted.
+     */
+    private MoneyAccumulator sum;
+    /**
+     * The number of amounts.
+     */
+    private long count;
+    /**
+     * The minimum, null if no amounts have been accepted.
+     */
+    private Money min;
+    /**
+     * The maximum, null if no amounts have been accepted.
+     */
+    private Money max;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains an empty summary.
+     *
+     * @return the new summary, never null
+     */
+    public static MoneySummaryStatistics create() {
+        return new MoneySummaryStatistics();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Constructor.
+     */
+    private MoneySummaryStatistics() {
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Adds a monetary amount to this summary.
+     * <p>
+     * The amount must be in the same currency as those previously accepted.
+     * 
+     * @param money  the monetary value to add, not null
+     * @throws CurrencyMismatchException if the currencies differ
+     */
+    @Override
+    public void accept(Money money) {
+        MoneyUtils.checkNotNull(money, "Money must not be null");
+        if (sum == null) {
+            sum = MoneyAccumulator.of(money);
+            min = money;
+            max = money;
+        } else {
+            sum.add(money);
+            if (money.compareTo(min) < 0) {
+                min = money;
+            }
+            if (money.compareTo(max) > 0) {
+                max = money;
+            }
+        }
+        count++;
+    }
+
+    /**
+     * Combines another summary into this one.
+     * <p>
+     * The other summary is not altered.
+     * 
+     * @param other  the other summary, not null
+     * @return this, for chaining, never null
+     * @throws CurrencyMismatchException if the currencies differ
+     */
+    public MoneySummaryStatistics combine(MoneySummaryStatistics other) {
+        MoneyUtils.checkNotNull(other, "MoneySummaryStatistics must not be null");
+        if (other.sum == null) {
+            return this;
+        }
+        if (sum == null) {
+            sum = MoneyAccumulator.of(other.sum);
+            min = other.min;
+            max = other.max;
+        } else {
+            sum.add(other.sum);
+            if (other.min.compareTo(min) < 0) {
+                min = other.min;
+            }
+            if (other.max.compareTo(max) > 0) {
+                max = other.max;
+            }
+        }
+        count += other.count;
+        return this;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the number of amounts.
+     * 
+     * @return the count, zero or greater
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the currency of the amounts.
+     * 
+     * @return the currency, never null
+     * @throws IllegalStateException if no amounts have been accepted
+     */
+    public CurrencyUnit getCurrencyUnit() {
+        checkNotEmpty();
+        return sum.getCurrencyUnit();
+    }
+
+    /**
+     * Gets the sum of the amounts.
+     * 
+     * @return the sum, never null
+     * @throws IllegalStateException if no amounts have been accepted
+     */
+    public Money getSum() {
+        checkNotEmpty();
+        return sum.toMoney();
+    }
+
+    /**
+     * Gets the minimum amount.
+     * 
+     * @return the minimum, never null
+     * @throws IllegalStateException if no amounts have been accepted
+     */
+    public Money getMin() {
+        checkNotEmpty();
+        return min;
+    }
+
+    /**
+     * Gets the maximum amount.
+     * 
+     * @return the maximum, never null
+     * @throws IllegalStateException if no amounts have been accepted
+     */
+    public Money getMax() {
+        checkNotEmpty();
+        return max;
+    }
+
+    /**
+     * Gets the average amount, rounding as necessary.
+     * <p>
+     * The average is the sum divided by the count, as though using
+     * {@link Money#dividedBy(long, RoundingMode)}.
+     * There is no average if no amounts have been accepted, as the currency is unknown.
+     * 
+     * @param roundingMode  the rounding mode to use, not null
+     * @return the average, never null
+     * @throws IllegalStateException if no amounts have been accepted
+     * @throws ArithmeticException if the rounding fails
+     */
+    public Money getAverage(RoundingMode roundingMode) {
+        MoneyUtils.checkNotNull(roundingMode, "RoundingMode must not be null");
+        return getSum().dividedBy(count, roundingMode);
+    }
+
+    // validates that an amount has been accepted
+    private void checkNotEmpty() {
+        if (sum == null) {
+            throw new IllegalStateException("No amounts have been accepted");
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the summary as a string.
+     * 
+     * @return the string representation of the summary, never null
+     */
+    @Override
+    public String toString() {
+        if (sum == null) {
+            return "MoneySummaryStatistics[count=0]";
+        }
+        return "MoneySummaryStatistics[count=" + count + ", sum=" + getSum() + ", min=" + min + ", max=" + max + "]";
+    }
+
+}
@@ -0,0 +1,119 @@
+/*
+ *  Copyright 2009-present, Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.money;
+
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BiConsumer;
+import java.util.stream.Collector;
+
+/**
+ * Fork/join task that totals a list of monetary amounts in parallel.
+ * <p>
+ * The list is split into chunks, each chunk is accumulated into the mutable
+ * container of a collector, and the containers are combined in list order.
+ * <p>
+ * This class is package-scoped.
+ *
+ * @param <T>  the type of the monetary amount
+ * @param <A>  the type of the mutable container
+ */
+@SuppressWarnings("serial")
+final class MoneyTotalTask<T, A> extends RecursiveTask<A> {
+
+    /**
+     * The number of elements below which the list is not split.
+     */
+    static final int THRESHOLD = 4096;
+
+    /**
+     * The list, not null.
+     */
+    private final List<? extends T> list;
+    /**
+     * The start index, inclusive.
+     */
+    private final int start;
+    /**
+     * The end index, exclusive.
+     */
+    private final int end;
+    /**
+     * The collector, not null.
+     */
+    private final Collector<T, A, ?> collector;
+
+    /**
+     * Totals the list, in parallel if it is large and random access.
+     * 
+     * @param <T>  the type of the monetary amount
+     * @param <A>  the type of the mutable container
+     * @param <R>  the type of the result
+     * @param list  the list to total, not null
+     * @param collector  the collector to use, not null
+     * @param pool  the pool to run in, not null
+     * @return the result of the collector
+     */
+    static <T, A, R> R total(List<? extends T> list, Collector<T, A, R> collector, ForkJoinPool pool) {
+        A container;
+        if (list.size() <= THRESHOLD || list instanceof RandomAccess == false) {
+            container = collector.supplier().get();
+            BiConsumer<A, T> accumulator = collector.accumulator();
+            for (T element : list) {
+                accumulator.accept(container, element);
+            }
+        } else {
+            container = pool.invoke(new MoneyTotalTask<T, A>(list, 0, list.size(), collector));
+        }
+        return collector.finisher().apply(container);
+    }
+
+    /**
+     * Constructor.
+     * 
+     * @param list  the list, not null
+     * @param start  the start index, inclusive
+     * @param end  the end index, exclusive
+     * @param collector  the collector, not null
+     */
+    private MoneyTotalTask(List<? extends T> list, int start, int end, Collector<T, A, ?> collector) {
+        this.list = list;
+        this.start = start;
+        this.end = end;
+        this.collector = collector;
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    protected A compute() {
+        if (end - start <= THRESHOLD) {
+            A container = collector.supplier().get();
+            BiConsumer<A, T> accumulator = collector.accumulator();
+            for (int i = start; i < end; i++) {
+                accumulator.accept(container, list.get(i));
+            }
+            return container;
+        }
+        int mid = (start + end) >>> 1;
+        MoneyTotalTask<T, A> left = new MoneyTotalTask<T, A>(list, start, mid, collector);
+        left.fork();
+        A right = new MoneyTotalTask<T, A>(list, mid, end, collector).compute();
+        return collector.combiner().apply(left.join(), right);
+    }
+
+}
@@ -0,0 +1,407 @@
+/*
+ *  Copyright 2009-present, Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.money;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.SortedMap;
+
+/**
+ * A mutable, fixed size vector of monetary amounts held outside the heap.
+ * <p>
+ * This class holds the amounts in a direct {@code ByteBuffer}, so that very large
+ * sets of amounts add little to the work of the garbage collector.
+ * Each slot holds the index of a currency and the amount in minor units
+ * as a {@code long}, using twelve bytes of memory.
+ * A slot is empty until an amount is set.
+ * <p>
+ * The memory is released when the vector is closed and the buffer is garbage collected.
+ * Once closed, all methods other than {@link #close()} and {@link #isClosed()}
+ * throw {@code IllegalStateException}.
+ * <p>
+ * This class is mutable and intended for use by a single thread.
+ */
+public final class MoneyVector implements AutoCloseable {
+
+    /**
+     * The number of slots.
+     */
+    private final int size;
+    /**
+     * The buffer, null once closed.
+     * The amounts are stored first, followed by the currency indexes plus one.
+     */
+    private ByteBuffer buffer;
+    /**
+     * The currencies stored in the vector, indexed by currency index.
+     */
+    private CurrencyUnit[] currencies;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains a vector with the specified number of empty slots.
+     *
+     * @param size  the number of slots, zero or greater
+     * @return the new vector, never null
+     * @throws IllegalArgumentException if the size is negative or too large
+     */
+    public static MoneyVector allocate(int size) {
+        if (size < 0 || size > Integer.MAX_VALUE / 12) {
+            throw new IllegalArgumentException("Invalid MoneyVector size: " + size);
+        }
+        return new MoneyVector(size);
+    }
+
+    /**
+     * Obtains a vector holding the amounts in a collection.
+     *
+     * @param monies  the monetary values, no null elements, not null
+     * @return the new vector, never null
+     * @throws ArithmeticException if an amount exceeds the capacity of a {@code long} in minor units
+     */
+    public static MoneyVector of(Collection<Money> monies) {
+        MoneyUtils.checkNotNull(monies, "Money collection must not be null");
+        MoneyVector vector = allocate(monies.size());
+        int i = 0;
+        for (Money money : monies) {
+            vector.set(i++, money);
+        }
+        return vector;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Constructor.
+     * 
+     * @param size  the number of slots, validated
+     */
+    private MoneyVector(int size) {
+        this.size = size;
+        this.buffer = ByteBuffer.allocateDirect(size * 12).order(ByteOrder.nativeOrder());
+        this.currencies = new CurrencyUnit[CurrencyUnit.indexCount()];
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the number of slots.
+     * 
+     * @return the size, zero or greater
+     */
+    public int size() {
+        checkOpen();
+        return size;
+    }
+
+    /**
+     * Checks if the slot at the specified index holds an amount.
+     * 
+     * @param index  the zero-based index
+     * @return true if an amount has been set
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public boolean isSet(int index) {
+        return currencyIndex(index) >= 0;
+    }
+
+    /**
+     * Gets the currency at the specified index.
+     * 
+     * @param index  the zero-based index
+     * @return the currency, never null
+     * @throws IndexOutOfBoundsException if the index is invalid
+     * @throws IllegalStateException if the slot is empty
+     */
+    public CurrencyUnit getCurrencyUnit(int index) {
+        int currencyIndex = currencyIndex(index);
+        if (currencyIndex < 0) {
+            throw new IllegalStateException("MoneyVector slot is empty: " + index);
+        }
+        return currencies[currencyIndex];
+    }
+
+    /**
+     * Gets the amount at the specified index in minor units.
+     * 
+     * @param index  the zero-based index
+     * @return the amount in minor units, zero if the slot is empty
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public long getAmountMinorLong(int index) {
+        checkIndex(index);
+        return buffer.getLong(index << 3);
+    }
+
+    /**
+     * Gets the amount at the specified index.
+     * <p>
+     * Only the slot is read, the vector is not copied.
+     * 
+     * @param index  the zero-based index
+     * @return the amount, never null
+     * @throws IndexOutOfBoundsException if the index is invalid
+     * @throws IllegalStateException if the slot is empty
+     */
+    public Money get(int index) {
+        return Money.ofMinor(getCurrencyUnit(index), buffer.getLong(index << 3));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Sets the amount at the specified index.
+     * 
+     * @param index  the zero-based index
+     * @param money  the amount to set, not null
+     * @return this, for chaining, never null
+     * @throws IndexOutOfBoundsException if the index is invalid
+     * @throws ArithmeticException if the amount exceeds the capacity of a {@code long} in minor units
+     */
+    public MoneyVector set(int index, Money money) {
+        MoneyUtils.checkNotNull(money, "Money must not be null");
+        return setMinor(index, money.getCurrencyUnit(), money.getAmountMinorLong());
+    }
+
+    /**
+     * Sets the amount in minor units at the specified index.
+     * 
+     * @param index  the zero-based index
+     * @param currency  the currency, not null
+     * @param amountMinor  the amount in minor units
+     * @return this, for chaining, never null
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public MoneyVector setMinor(int index, CurrencyUnit currency, long amountMinor) {
+        MoneyUtils.checkNotNull(currency, "CurrencyUnit must not be null");
+        checkIndex(index);
+        int currencyIndex = currency.ordinal();
+        if (currencyIndex >= currencies.length) {
+            currencies = Arrays.copyOf(currencies, Math.max(currencyIndex + 1, CurrencyUnit.indexCount()));
+        }
+        currencies[currencyIndex] = currency;
+        buffer.putLong(index << 3, amountMinor);
+        buffer.putInt(currencyOffset(index), currencyIndex + 1);
+        return this;
+    }
+
+    /**
+     * Adds an amount to the amount at the specified index.
+     * <p>
+     * If the slot is empty, the amount is set.
+     * 
+     * @param index  the zero-based index
+     * @param moneyToAdd  the amount to add, not null
+     * @return this, for chaining, never null
+     * @throws IndexOutOfBoundsException if the index is invalid
+     * @throws CurrencyMismatchException if the currencies differ
+     * @throws ArithmeticException if the amount exceeds the capacity of a {@code long} in minor units
+     */
+    public MoneyVector add(int index, Money moneyToAdd) {
+        MoneyUtils.checkNotNull(moneyToAdd, "Money must not be null");
+        int currencyIndex = currencyIndex(index);
+        if (currencyIndex < 0) {
+            return set(index, moneyToAdd);
+        }
+        CurrencyUnit currency = currencies[currencyIndex];
+        if (currency.equals(moneyToAdd.getCurrencyUnit()) == false) {
+            throw new CurrencyMismatchException(currency, moneyToAdd.getCurrencyUnit());
+        }
+        int offset = index << 3;
+        buffer.putLong(offset, Math.addExact(buffer.getLong(offset), moneyToAdd.getAmountMinorLong()));
+        return this;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Multiplies every amount by the specified value, rounding to the scale of each currency.
+     * <p>
+     * Each amount matches that of {@link Money#multipliedBy(BigDecimal, RoundingMode)}.
+     * If the rounding of any amount fails, the vector is left partly updated.
+     * 
+     * @param valueToMultiplyBy  the scalar value to multiply by, not null
+     * @param roundingMode  the rounding mode to use, not null
+     * @return this, for chaining, never null
+     * @throws ArithmeticException if the rounding fails
+     * @throws ArithmeticException if an amount exceeds the capacity of a {@code long} in minor units
+     */
+    public MoneyVector multiply(BigDecimal valueToMultiplyBy, RoundingMode roundingMode) {
+        MoneyUtils.checkNotNull(valueToMultiplyBy, "Multiplier must not be null");
+        return multiply(MoneyRate.of(valueToMultiplyBy, roundingMode));
+    }
+
+    /**
+     * Applies the rate to every amount.
+     * <p>
+     * Each amount matches that of {@link MoneyRate#apply(Money)}.
+     * If the rounding of any amount fails, the vector is left partly updated.
+     * 
+     * @param rate  the rate to apply, not null
+     * @return this, for chaining, never null
+     * @throws ArithmeticException if the rounding fails
+     * @throws ArithmeticException if an amount exceeds the capacity of a {@code long} in minor units
+     */
+    public MoneyVector multiply(MoneyRate rate) {
+        MoneyUtils.checkNotNull(rate, "MoneyRate must not be null");
+        checkOpen();
+        for (int i = 0; i < size; i++) {
+            int offset = i << 3;
+            buffer.putLong(offset, rate.applyMinor(buffer.getLong(offset)));
+        }
+        return this;
+    }
+
+    /**
+     * Negates every amount.
+     * <p>
+     * If any amount overflows, the vector is left partly updated.
+     * 
+     * @return this, for chaining, never null
+     * @throws ArithmeticException if an amount exceeds the capacity of a {@code long} in minor units
+     */
+    public MoneyVector negate() {
+        checkOpen();
+        for (int i = 0; i < size; i++) {
+            int offset = i << 3;
+            buffer.putLong(offset, Math.negateExact(buffer.getLong(offset)));
+        }
+        return this;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the total of the amounts in the specified currency.
+     * <p>
+     * Amounts in other currencies and empty slots are ignored.
+     * 
+     * @param currency  the currency to total, not null
+     * @return the total, never null
+     */
+    public Money total(CurrencyUnit currency) {
+        MoneyUtils.checkNotNull(currency, "CurrencyUnit must not be null");
+        checkOpen();
+        int currencyIndex = currency.ordinal() + 1;
+        try {
+            return Money.ofMinor(currency, totalMinor(currencyIndex));
+        } catch (ArithmeticException ex) {
+            // too large for a long, fall through
+        }
+        MoneyAccumulator total = MoneyAccumulator.of(currency);
+        for (int i = 0; i < size; i++) {
+            if (buffer.getInt(currencyOffset(i)) == currencyIndex) {
+                total.addMinor(buffer.getLong(i << 3));
+            }
+        }
+        return total.toMoney();
+    }
+
+    /**
+     * Gets the totals of the amounts by currency.
+     * <p>
+     * Empty slots are ignored.
+     * 
+     * @return the unmodifiable map of totals sorted by currency, never null
+     */
+    public SortedMap<CurrencyUnit, Money> totals() {
+        checkOpen();
+        MultiCurrencyTotal total = MultiCurrencyTotal.create();
+        for (int i = 0; i < size; i++) {
+            int currencyIndex = buffer.getInt(currencyOffset(i)) - 1;
+            if (currencyIndex >= 0) {
+                total.addMinor(currencies[currencyIndex], buffer.getLong(i << 3));
+            }
+        }
+        return total.toMoneyMap();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if this vector has been closed.
+     * 
+     * @return true if closed
+     */
+    public boolean isClosed() {
+        return buffer == null;
+    }
+
+    /**
+     * Closes this vector, releasing the memory for garbage collection.
+     * <p>
+     * Closing a closed vector has no effect.
+     */
+    @Override
+    public void close() {
+        buffer = null;
+        currencies = null;
+    }
+
+    //-----------------------------------------------------------------------
+    // sums the amounts with the currency index plus one without branching on the data
+    private long totalMinor(int currencyIndex) {
+        long total = 0;
+        long overflow = 0;
+        for (int i = 0; i < size; i++) {
+            long mask = buffer.getInt(currencyOffset(i)) == currencyIndex ? -1L : 0L;
+            long value = buffer.getLong(i << 3) & mask;
+            long result = total + value;
+            overflow |= (total ^ result) & (value ^ result);
+            total = result;
+        }
+        if (overflow < 0) {
+            throw new ArithmeticException("long overflow");
+        }
+        return total;
+    }
+
+    // gets the currency index at the index, -1 if empty
+    private int currencyIndex(int index) {
+        checkIndex(index);
+        return buffer.getInt(currencyOffset(index)) - 1;
+    }
+
+    // gets the offset of the currency index
+    private int currencyOffset(int index) {
+        return (size << 3) + (index << 2);
+    }
+
+    // validates the index and that the vector is open
+    private void checkIndex(int index) {
+        checkOpen();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Invalid MoneyVector index: " + index);
+        }
+    }
+
+    // validates that the vector is open
+    private void checkOpen() {
+        if (buffer == null) {
+            throw new IllegalStateException("MoneyVector is closed");
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the vector as a string.
+     * 
+     * @return a summary of this vector, never null
+     */
+    @Override
+    public String toString() {
+        return "MoneyVector[size=" + size + (buffer == null ? ", closed]" : "]");
+    }
+
+}
@@ -0,0 +1,210 @@
+/*
+ *  Copyright 2009-present, Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.money;
+
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * A mutable total of monetary amounts in many currencies.
+ * <p>
+ * This class allows amounts in mixed currencies to be added without a map lookup
+ * or the creation of an immutable object for each step.
+ * Each currency has a slot in a flat array, indexed by the currency.
+ * The immutable result is obtained at the end using {@link #toMoneyMap()}
+ * or {@link #toBigMoneyMap()}.
+ * <p>
+ * This class is mutable and intended for use by a single thread.
+ * Totals built in different threads may be combined using {@link #merge(MultiCurrencyTotal)}.
+ */
+public final class MultiCurrencyTotal {
+
+    /**
+     * The totals, indexed by currency, null if the currency has not been added.
+     */
+    private MoneyAccumulator[] totals;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains an empty total.
+     *
+     * @return the new total, never null
+     */
+    public static MultiCurrencyTotal create() {
+        return new MultiCurrencyTotal();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Constructor.
+     */
+    private MultiCurrencyTotal() {
+        this.totals = new MoneyAccumulator[CurrencyUnit.indexCount()];
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Adds a monetary amount to this total.
+     * <p>
+     * No precision is lost.
+     *
+     * @param moneyToAdd  the monetary value to add, not null
+     * @return this, for chaining, never null
+     */
+    public MultiCurrencyTotal add(BigMoneyProvider moneyToAdd) {
+        MoneyUtils.checkNotNull(moneyToAdd, "Money must not be null");
+        if (moneyToAdd instanceof Money) {
+            Money money = (Money) moneyToAdd;
+            total(money.getCurrencyUnit()).add(money);
+            return this;
+        }
+        BigMoney money = BigMoney.of(moneyToAdd);
+        total(money.getCurrencyUnit()).add(money);
+        return this;
+    }
+
+    /**
+     * Adds a collection of monetary amounts to this total.
+     * <p>
+     * No precision is lost.
+     *
+     * @param moniesToAdd  the monetary values to add, no null elements, not null
+     * @return this, for chaining, never null
+     */
+    public MultiCurrencyTotal add(Iterable<? extends BigMoneyProvider> moniesToAdd) {
+        for (BigMoneyProvider moneyToAdd : moniesToAdd) {
+            add(moneyToAdd);
+        }
+        return this;
+    }
+
+    /**
+     * Adds an amount in minor units of the specified currency to this total.
+     * 
+     * @param currency  the currency, not null
+     * @param amountToAdd  the amount in minor units to add
+     * @return this, for chaining, never null
+     */
+    MultiCurrencyTotal addMinor(CurrencyUnit currency, long amountToAdd) {
+        total(currency).addMinor(amountToAdd);
+        return this;
+    }
+
+    /**
+     * Merges another total into this one.
+     * <p>
+     * The other total is not altered.
+     *
+     * @param other  the other total, not null
+     * @return this, for chaining, never null
+     */
+    public MultiCurrencyTotal merge(MultiCurrencyTotal other) {
+        MoneyUtils.checkNotNull(other, "MultiCurrencyTotal must not be null");
+        MoneyAccumulator[] otherTotals = other.totals;
+        for (int i = 0; i < otherTotals.length; i++) {
+            MoneyAccumulator otherTotal = otherTotals[i];
+            if (otherTotal != null) {
+                total(otherTotal.getCurrencyUnit()).add(otherTotal);
+            }
+        }
+        return this;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Converts the totals to a map of {@code Money} without rounding.
+     * <p>
+     * The map contains an entry for each currency that has been added,
+     * even if the total is zero, and is sorted by currency.
+     *
+     * @return the unmodifiable map of totals, never null
+     * @throws ArithmeticException if rounding is necessary
+     */
+    public SortedMap<CurrencyUnit, Money> toMoneyMap() {
+        return toMoneyMap(RoundingMode.UNNECESSARY);
+    }
+
+    /**
+     * Converts the totals to a map of {@code Money}, rounding as necessary.
+     * <p>
+     * The map contains an entry for each currency that has been added,
+     * even if the total is zero, and is sorted by currency.
+     *
+     * @param roundingMode  the rounding mode to use, not null
+     * @return the unmodifiable map of totals, never null
+     * @throws ArithmeticException if the rounding fails
+     */
+    public SortedMap<CurrencyUnit, Money> toMoneyMap(RoundingMode roundingMode) {
+        MoneyUtils.checkNotNull(roundingMode, "RoundingMode must not be null");
+        SortedMap<CurrencyUnit, Money> map = new TreeMap<CurrencyUnit, Money>();
+        for (MoneyAccumulator total : totals) {
+            if (total != null) {
+                map.put(total.getCurrencyUnit(), total.toMoney(roundingMode));
+            }
+        }
+        return Collections.unmodifiableSortedMap(map);
+    }
+
+    /**
+     * Converts the totals to a map of {@code BigMoney}.
+     * <p>
+     * The map contains an entry for each currency that has been added,
+     * even if the total is zero, and is sorted by currency.
+     *
+     * @return the unmodifiable map of totals, never null
+     */
+    public SortedMap<CurrencyUnit, BigMoney> toBigMoneyMap() {
+        SortedMap<CurrencyUnit, BigMoney> map = new TreeMap<CurrencyUnit, BigMoney>();
+        for (MoneyAccumulator total : totals) {
+            if (total != null) {
+                map.put(total.getCurrencyUnit(), total.toBigMoney());
+            }
+        }
+        return Collections.unmodifiableSortedMap(map);
+    }
+
+    //-----------------------------------------------------------------------
+    // gets the total for the currency, creating it if necessary
+    private MoneyAccumulator total(CurrencyUnit currency) {
+        int index = currency.ordinal();
+        if (index >= totals.length) {
+            totals = Arrays.copyOf(totals, Math.max(index + 1, CurrencyUnit.indexCount()));
+        }
+        MoneyAccumulator total = totals[index];
+        if (total == null) {
+            total = MoneyAccumulator.of(currency);
+            totals[index] = total;
+        }
+        return total;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the totals as a string.
+     * <p>
+     * The format is a list of {@code BigMoney} totals sorted by currency.
+     *
+     * @return the string representation of the totals, never null
+     */
+    @Override
+    public String toString() {
+        return toBigMoneyMap().values().toString();
+    }
+
+}
@@ -320,9 +320,8 @@ public final class MoneyFormatterBuilder {
                 if (endPos > context.getTextLength()) {
                     context.setError();
                 } else {
-                    String code = context.getTextSubstring(context.getIndex(), endPos);
                     try {
-                        context.setCurrency(CurrencyUnit.of(code));
+                        context.setCurrency(CurrencyUnit.of(context.getText(), context.getIndex()));
                         context.setIndex(endPos);
                     } catch (IllegalCurrencyException ex) {
                         context.setError();
@@ -341,9 +340,8 @@ public final class MoneyFormatterBuilder {
                 if (endPos > context.getTextLength()) {
                     context.setError();
                 } else {
-                    String code = context.getTextSubstring(context.getIndex(), endPos);
                     try {
-                        context.setCurrency(CurrencyUnit.ofNumericCode(code));
+                        context.setCurrency(CurrencyUnit.ofNumericCode(context.getText(), context.getIndex()));
                         context.setIndex(endPos);
                     } catch (IllegalCurrencyException ex) {
                         context.setError();
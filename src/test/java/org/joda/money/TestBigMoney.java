@@ -30,8 +30,13 @@ import java.lang.reflect.Modifier;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.RoundingMode;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -353,6 +358,11 @@ public class TestBigMoney {
         BigMoney.zero((CurrencyUnit) null);
     }
 
+    @Test
+    public void test_factory_zero_Currency_cached() {
+        assertSame(BigMoney.zero(GBP), BigMoney.zero(GBP));
+    }
+
     //-----------------------------------------------------------------------
     // zero(Currency, int)
     //-----------------------------------------------------------------------
@@ -541,6 +551,49 @@ public class TestBigMoney {
         BigMoney.total(iterable);
     }
 
+    //-----------------------------------------------------------------------
+    // totalParallel(List)
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_factory_totalParallel_small() {
+        List<BigMoneyProvider> list = Arrays.<BigMoneyProvider>asList(GBP_2_33, GBP_1_23.toMoney(), GBP_2_34);
+        assertEquals(BigMoney.total(list), BigMoney.totalParallel(list));
+    }
+
+    @Test
+    public void test_factory_totalParallel_large() {
+        List<BigMoney> list = new ArrayList<>();
+        for (int i = 0; i < MoneyTotalTask.THRESHOLD * 5; i++) {
+            list.add(i % 1000 == 999 ? BigMoney.parse("GBP 0.0000") : BigMoney.ofScale(GBP, i * 31 - 20000, i % 3));
+        }
+        assertEquals(BigMoney.total(list), BigMoney.totalParallel(list));
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            assertEquals(BigMoney.total(list), BigMoney.totalParallel(list, pool));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_factory_totalParallel_empty() {
+        BigMoney.totalParallel(Collections.<BigMoney>emptyList());
+    }
+
+    @Test(expected = CurrencyMismatchException.class)
+    public void test_factory_totalParallel_currenciesDiffer() {
+        List<BigMoney> list = new ArrayList<>(Collections.nCopies(MoneyTotalTask.THRESHOLD * 3, GBP_2_33));
+        list.set(MoneyTotalTask.THRESHOLD * 2, JPY_423);
+        BigMoney.totalParallel(list);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void test_factory_totalParallel_nullEntry() {
+        List<BigMoney> list = new ArrayList<>(Collections.nCopies(MoneyTotalTask.THRESHOLD * 3, GBP_2_33));
+        list.set(MoneyTotalTask.THRESHOLD * 2, null);
+        BigMoney.totalParallel(list);
+    }
+
     //-----------------------------------------------------------------------
     // total(CurrencyUnit,BigMoneyProvider...)
     //-----------------------------------------------------------------------
@@ -1189,6 +1242,62 @@ public class TestBigMoney {
         assertEquals(-78, GBP_M5_78.getMinorPart());
     }
 
+    @Test
+    public void test_amountParts_matchBigDecimal() {
+        String[] amounts = {
+            "0", "0.001", "-0.009", "1", "-1", "2.34", "-5.78", "2.3456", "-2.3456", "12345678.9",
+            "2147483647.99", "2147483648", "-2147483648.99", "-2147483649", "99999999999999.999",
+            "922337203685477.58", "922337203685477.5807", "92233720368547758.07", "-92233720368547758.08",
+            "92233720368547758.08", "9223372036854775807", "-9223372036854775808.5", "1E+20", "123456789012345678901234.5",
+            "-12.345678901234567", "0.00000000000000000001234", "-9.223372036854775807", "1.0000000000000000000001", "1E-30",
+        };
+        for (String amount : amounts) {
+            for (CurrencyUnit currency : new CurrencyUnit[] {GBP, JPY, CurrencyUnit.of("BHD")}) {
+                assertAmountParts(BigMoney.of(currency, new BigDecimal(amount)));
+            }
+        }
+    }
+
+    private static void assertAmountParts(BigMoney test) {
+        int cdp = test.getCurrencyUnit().getDecimalPlaces();
+        BigDecimal minor = test.getAmount().setScale(cdp, RoundingMode.DOWN).movePointRight(cdp);
+        BigDecimal major = test.getAmount().setScale(0, RoundingMode.DOWN);
+        BigDecimal minorPart = test.getAmount().setScale(cdp, RoundingMode.DOWN).remainder(BigDecimal.ONE).movePointRight(cdp);
+        assertEquals(test.toString(), major, test.getAmountMajor());
+        assertEquals(test.toString(), minor, test.getAmountMinor());
+        assertEquals(test.toString(), minorPart.intValue(), test.getMinorPart());
+        assertLongPart(test.toString(), minor, test::getAmountMinorLong);
+        assertLongPart(test.toString(), major, test::getAmountMajorLong);
+        assertIntPart(test.toString(), minor, test::getAmountMinorInt);
+        assertIntPart(test.toString(), major, test::getAmountMajorInt);
+    }
+
+    private static void assertLongPart(String message, BigDecimal expected, LongSupplier actual) {
+        if (expected.compareTo(BigDecimal.valueOf(Long.MIN_VALUE)) < 0 || expected.compareTo(BigDecimal.valueOf(Long.MAX_VALUE)) > 0) {
+            try {
+                actual.getAsLong();
+                fail(message);
+            } catch (ArithmeticException ex) {
+                // expected
+            }
+        } else {
+            assertEquals(message, expected.longValueExact(), actual.getAsLong());
+        }
+    }
+
+    private static void assertIntPart(String message, BigDecimal expected, IntSupplier actual) {
+        if (expected.compareTo(BigDecimal.valueOf(Integer.MIN_VALUE)) < 0 || expected.compareTo(BigDecimal.valueOf(Integer.MAX_VALUE)) > 0) {
+            try {
+                actual.getAsInt();
+                fail(message);
+            } catch (ArithmeticException ex) {
+                // expected
+            }
+        } else {
+            assertEquals(message, expected.intValueExact(), actual.getAsInt());
+        }
+    }
+
     //-----------------------------------------------------------------------
     // isZero()
     //-----------------------------------------------------------------------
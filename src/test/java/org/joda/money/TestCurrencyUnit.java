@@ -17,17 +17,22 @@ package org.joda.money;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.InvalidObjectException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Currency;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Set;
@@ -266,6 +271,132 @@ public class TestCurrencyUnit {
         CurrencyUnit.of("ABCD");
     }
 
+    @Test
+    public void test_factory_of_String_lowerCase_unknown() {
+        assertUnknownCode("gbp");
+        assertUnknownCode("Gbp");
+        assertUnknownCode("GB@");
+        assertUnknownCode("GB[");
+        assertUnknownCode("G\u00C0P");
+    }
+
+    @Test
+    public void test_factory_of_String_allRegistered() {
+        List<CurrencyUnit> registered = CurrencyUnit.registeredCurrencies();
+        for (CurrencyUnit currency : registered) {
+            assertSame(currency, CurrencyUnit.of(currency.getCode()));
+        }
+        for (int i = 1; i < registered.size(); i++) {
+            assertTrue(registered.get(i - 1).getCode().compareTo(registered.get(i).getCode()) < 0);
+        }
+    }
+
+    @Test
+    public void test_factory_of_String_allCodes() {
+        Set<String> codes = new HashSet<>();
+        for (CurrencyUnit currency : CurrencyUnit.registeredCurrencies()) {
+            codes.add(currency.getCode());
+        }
+        for (char ch0 = 'A'; ch0 <= 'Z'; ch0++) {
+            for (char ch1 = 'A'; ch1 <= 'Z'; ch1++) {
+                for (char ch2 = 'A'; ch2 <= 'Z'; ch2++) {
+                    String code = new String(new char[] {ch0, ch1, ch2});
+                    if (codes.contains(code)) {
+                        assertEquals(code, CurrencyUnit.of(code).getCode());
+                    } else {
+                        assertUnknownCode(code);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void assertUnknownCode(String code) {
+        try {
+            CurrencyUnit.of(code);
+            fail("Expected IllegalCurrencyException: " + code);
+        } catch (IllegalCurrencyException ex) {
+            // expected
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    // of(CharSequence,int) of(char[],int) of(byte[],int)
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_factory_of_CharSequence() {
+        assertSame(CurrencyUnit.GBP, CurrencyUnit.of(new StringBuilder("GBP"), 0));
+        assertSame(CurrencyUnit.EUR, CurrencyUnit.of("12 EUR 34", 3));
+        assertSame(CurrencyUnit.USD, CurrencyUnit.of("xxUSD", 2));
+    }
+
+    @Test
+    public void test_factory_of_charArray() {
+        assertSame(CurrencyUnit.GBP, CurrencyUnit.of("GBP".toCharArray(), 0));
+        assertSame(CurrencyUnit.EUR, CurrencyUnit.of("12 EUR 34".toCharArray(), 3));
+    }
+
+    @Test
+    public void test_factory_of_byteArray() {
+        assertSame(CurrencyUnit.GBP, CurrencyUnit.of("GBP".getBytes(StandardCharsets.US_ASCII), 0));
+        assertSame(CurrencyUnit.JPY, CurrencyUnit.of("15=JPY|".getBytes(StandardCharsets.US_ASCII), 3));
+    }
+
+    @Test
+    public void test_factory_of_offset_unknownCurrency() {
+        try {
+            CurrencyUnit.of("12 ABC 34", 3);
+            fail();
+        } catch (IllegalCurrencyException ex) {
+            assertEquals("Unknown currency 'ABC'", ex.getMessage());
+        }
+        try {
+            CurrencyUnit.of("gbp".toCharArray(), 0);
+            fail();
+        } catch (IllegalCurrencyException ex) {
+            assertEquals("Unknown currency 'gbp'", ex.getMessage());
+        }
+        try {
+            CurrencyUnit.of(new byte[] {'G', 'B', (byte) 0xC1}, 0);
+            fail();
+        } catch (IllegalCurrencyException ex) {
+            assertEquals("Unknown currency 'GB\u00C1'", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void test_factory_of_offset_invalidOffset() {
+        assertInvalidOffset(() -> CurrencyUnit.of("GBP", 1));
+        assertInvalidOffset(() -> CurrencyUnit.of("GBP", -1));
+        assertInvalidOffset(() -> CurrencyUnit.of("GB".toCharArray(), 0));
+        assertInvalidOffset(() -> CurrencyUnit.of(new byte[4], 2));
+        assertInvalidOffset(() -> CurrencyUnit.of(new byte[4], Integer.MAX_VALUE));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void test_factory_of_CharSequence_null() {
+        CurrencyUnit.of((CharSequence) null, 0);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void test_factory_of_charArray_null() {
+        CurrencyUnit.of((char[]) null, 0);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void test_factory_of_byteArray_null() {
+        CurrencyUnit.of((byte[]) null, 0);
+    }
+
+    private static void assertInvalidOffset(Runnable runnable) {
+        try {
+            runnable.run();
+            fail();
+        } catch (IndexOutOfBoundsException ex) {
+            // expected
+        }
+    }
+
     //-----------------------------------------------------------------------
     // ofNumericCode(String)
     //-----------------------------------------------------------------------
@@ -390,6 +521,70 @@ public class TestCurrencyUnit {
         }
     }
 
+    @Test
+    public void test_factory_ofNumericCode_int_allRegistered() {
+        for (CurrencyUnit currency : CurrencyUnit.registeredCurrencies()) {
+            if (currency.getNumericCode() >= 0) {
+                assertSame(currency, CurrencyUnit.ofNumericCode(currency.getNumericCode()));
+                assertSame(currency, CurrencyUnit.ofNumericCode(currency.getNumeric3Code(), 0));
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    // ofNumericCode(CharSequence,int) ofNumericCode(byte[],int)
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_factory_ofNumericCode_CharSequence() {
+        assertSame(CurrencyUnit.GBP, CurrencyUnit.ofNumericCode(new StringBuilder("826"), 0));
+        assertSame(CurrencyUnit.of("ALL"), CurrencyUnit.ofNumericCode("ab008cd", 2));
+    }
+
+    @Test
+    public void test_factory_ofNumericCode_byteArray() {
+        assertSame(CurrencyUnit.EUR, CurrencyUnit.ofNumericCode("978".getBytes(StandardCharsets.US_ASCII), 0));
+        assertSame(CurrencyUnit.of("AMD"), CurrencyUnit.ofNumericCode("0000051".getBytes(StandardCharsets.US_ASCII), 4));
+    }
+
+    @Test
+    public void test_factory_ofNumericCode_offset_unknownCurrency() {
+        try {
+            CurrencyUnit.ofNumericCode("x111", 1);
+            fail();
+        } catch (IllegalCurrencyException ex) {
+            assertEquals("Unknown currency '111'", ex.getMessage());
+        }
+        try {
+            CurrencyUnit.ofNumericCode("82A", 0);
+            fail();
+        } catch (IllegalCurrencyException ex) {
+            assertEquals("Unknown currency '82A'", ex.getMessage());
+        }
+        try {
+            CurrencyUnit.ofNumericCode(" 51".getBytes(StandardCharsets.US_ASCII), 0);
+            fail();
+        } catch (IllegalCurrencyException ex) {
+            assertEquals("Unknown currency ' 51'", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void test_factory_ofNumericCode_offset_invalidOffset() {
+        assertInvalidOffset(() -> CurrencyUnit.ofNumericCode("826", 1));
+        assertInvalidOffset(() -> CurrencyUnit.ofNumericCode("826", -1));
+        assertInvalidOffset(() -> CurrencyUnit.ofNumericCode(new byte[2], 0));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void test_factory_ofNumericCode_CharSequence_null() {
+        CurrencyUnit.ofNumericCode((CharSequence) null, 0);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void test_factory_ofNumericCode_byteArray_null() {
+        CurrencyUnit.ofNumericCode((byte[]) null, 0);
+    }
+
     //-----------------------------------------------------------------------
     // of(Locale)
     //-----------------------------------------------------------------------
@@ -420,6 +615,29 @@ public class TestCurrencyUnit {
         }
     }
 
+    @Test
+    public void test_factory_of_Locale_cached() {
+        for (int i = 0; i < 2; i++) {
+            for (Locale locale : Locale.getAvailableLocales()) {
+                if (CurrencyUnit.registeredCountries().contains(locale.getCountry())) {
+                    assertSame(CurrencyUnit.ofCountry(locale.getCountry()), CurrencyUnit.of(locale));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void test_factory_of_Locale_registerCountry() {
+        Locale locale = new Locale("en", "ZY");
+        CurrencyUnit.registerCountry("ZY", CurrencyUnit.GBP);
+        assertEquals(CurrencyUnit.GBP, CurrencyUnit.of(locale));
+        assertTrue(CurrencyUnit.GBP.getCountryCodes().contains("ZY"));
+        CurrencyUnit.registerCountry("ZY", CurrencyUnit.USD);
+        assertEquals(CurrencyUnit.USD, CurrencyUnit.of(locale));
+        assertFalse(CurrencyUnit.GBP.getCountryCodes().contains("ZY"));
+        assertTrue(CurrencyUnit.USD.getCountryCodes().contains("ZY"));
+    }
+
     //-----------------------------------------------------------------------
     // ofCountry(String)
     //-----------------------------------------------------------------------
@@ -546,6 +764,39 @@ public class TestCurrencyUnit {
         assertTrue(test.contains("GG"));
     }
 
+    @Test
+    public void test_getCountryCodes_matchesCountries() {
+        for (CurrencyUnit currency : CurrencyUnit.registeredCurrencies()) {
+            Set<String> expected = new HashSet<>();
+            for (String countryCode : CurrencyUnit.registeredCountries()) {
+                if (CurrencyUnit.ofCountry(countryCode).equals(currency)) {
+                    expected.add(countryCode);
+                }
+            }
+            assertEquals(expected, currency.getCountryCodes());
+        }
+    }
+
+    @Test
+    public void test_getCountryCodes_sameInstance() {
+        CurrencyUnit test = CurrencyUnit.of("EUR");
+        assertSame(test.getCountryCodes(), test.getCountryCodes());
+        List<String> codes = new ArrayList<>(test.getCountryCodes());
+        List<String> sorted = new ArrayList<>(codes);
+        Collections.sort(sorted);
+        assertEquals(sorted, codes);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void test_getCountryCodes_unmodifiable() {
+        CurrencyUnit.of("GBP").getCountryCodes().add("FR");
+    }
+
+    @Test
+    public void test_getCountryCodes_none() {
+        assertEquals(Collections.emptySet(), CurrencyUnit.of("XXX").getCountryCodes());
+    }
+
     //-----------------------------------------------------------------------
     // getDecimalPlaces()
     //-----------------------------------------------------------------------
@@ -567,6 +818,67 @@ public class TestCurrencyUnit {
         assertEquals(0, test.getDecimalPlaces());
     }
 
+    //-----------------------------------------------------------------------
+    // getCashIncrement()
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_getCashIncrement_CHF() {
+        CurrencyUnit test = CurrencyUnit.of("CHF");
+        assertEquals(5, test.getCashIncrementMinor());
+        assertEquals(new BigDecimal("0.05"), test.getCashIncrement());
+    }
+
+    @Test
+    public void test_getCashIncrement_SEK() {
+        CurrencyUnit test = CurrencyUnit.of("SEK");
+        assertEquals(100, test.getCashIncrementMinor());
+        assertEquals(new BigDecimal("1.00"), test.getCashIncrement());
+    }
+
+    @Test
+    public void test_getCashIncrement_GBP() {
+        CurrencyUnit test = CurrencyUnit.of("GBP");
+        assertEquals(1, test.getCashIncrementMinor());
+        assertEquals(new BigDecimal("0.01"), test.getCashIncrement());
+    }
+
+    @Test
+    public void test_getCashIncrement_JPY() {
+        CurrencyUnit test = CurrencyUnit.of("JPY");
+        assertEquals(1, test.getCashIncrementMinor());
+        assertEquals(BigDecimal.ONE, test.getCashIncrement());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_registerCurrency_invalidCashIncrement() {
+        CurrencyUnit.registerCurrency("TST", 991, 2, 0, Collections.<String>emptyList(), false);
+    }
+
+    //-----------------------------------------------------------------------
+    // ordinal()
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_ordinal() {
+        Set<Integer> ordinals = new HashSet<>();
+        for (CurrencyUnit currency : CurrencyUnit.registeredCurrencies()) {
+            assertTrue(currency.ordinal() >= 0);
+            assertTrue(ordinals.add(currency.ordinal()));
+            assertSame(currency, CurrencyUnit.ofOrdinal(currency.ordinal()));
+        }
+        assertEquals(null, CurrencyUnit.ofOrdinal(Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void test_ordinal_notAssignedIfRejected() {
+        int count = CurrencyUnit.indexCount();
+        try {
+            CurrencyUnit.registerCurrency("TSO", 826, 2, Collections.<String>emptyList());
+            fail();
+        } catch (IllegalArgumentException ex) {
+            assertEquals(count, CurrencyUnit.indexCount());
+        }
+    }
+
     //-----------------------------------------------------------------------
     // isPseudoCurrency()
     //-----------------------------------------------------------------------
@@ -18,6 +18,7 @@ package org.joda.money;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
 
+import java.math.RoundingMode;
 import java.util.List;
 
 import org.junit.Test;
@@ -93,4 +94,11 @@ public class TestCurrencyUnitExtension {
         assertEquals(true, CurrencyUnit.of("HUF").getCountryCodes().isEmpty());
     }
 
+    @Test
+    public void test_CurrencyHUFCashIncrementChanged() {
+        CurrencyUnit currency = CurrencyUnit.of("HUF");
+        assertEquals(1000, currency.getCashIncrementMinor());
+        assertEquals("HUF 10.00", Money.parse("HUF 7.20").roundedToCash(RoundingMode.HALF_UP).toString());
+    }
+
 }
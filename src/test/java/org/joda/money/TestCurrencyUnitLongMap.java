@@ -0,0 +1,131 @@
+/*
+ *  Copyright 2009-present, Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.money;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Test CurrencyUnitLongMap.
+ */
+public class TestCurrencyUnitLongMap {
+
+    private static final CurrencyUnit GBP = CurrencyUnit.of("GBP");
+    private static final CurrencyUnit EUR = CurrencyUnit.of("EUR");
+    private static final CurrencyUnit USD = CurrencyUnit.of("USD");
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_putGetRemove() {
+        CurrencyUnitLongMap test = CurrencyUnitLongMap.create();
+        assertTrue(test.isEmpty());
+        assertEquals(0, test.put(GBP, 5));
+        assertEquals(5, test.put(GBP, 7));
+        assertEquals(0, test.put(USD, 0));
+        assertEquals(2, test.size());
+        assertEquals(7, test.get(GBP));
+        assertEquals(0, test.get(EUR));
+        assertTrue(test.containsKey(USD));
+        assertFalse(test.containsKey(EUR));
+        assertEquals(7, test.remove(GBP));
+        assertEquals(0, test.remove(GBP));
+        assertEquals(1, test.size());
+        test.clear();
+        assertTrue(test.isEmpty());
+        assertEquals(0, test.get(USD));
+    }
+
+    @Test
+    public void test_add() {
+        CurrencyUnitLongMap test = CurrencyUnitLongMap.create();
+        assertEquals(123, test.add(GBP, 123));
+        assertEquals(100, test.add(GBP, -23));
+        assertEquals(-5, test.add(EUR, -5));
+        assertEquals(100, test.get(GBP));
+        assertEquals(-5, test.get(EUR));
+        assertEquals(CurrencyUnitSet.of(GBP, EUR), test.keySet());
+    }
+
+    @Test
+    public void test_add_overflow() {
+        CurrencyUnitLongMap test = CurrencyUnitLongMap.create();
+        test.put(GBP, Long.MAX_VALUE);
+        try {
+            test.add(GBP, 1);
+            fail();
+        } catch (ArithmeticException ex) {
+            assertEquals(Long.MAX_VALUE, test.get(GBP));
+        }
+        try {
+            test.add(USD, Long.MIN_VALUE);
+            test.add(USD, -1);
+            fail();
+        } catch (ArithmeticException ex) {
+            assertEquals(Long.MIN_VALUE, test.get(USD));
+        }
+    }
+
+    @Test
+    public void test_forEach() {
+        CurrencyUnitLongMap test = CurrencyUnitLongMap.create();
+        test.put(USD, 3);
+        test.put(GBP, 12);
+        List<String> result = new ArrayList<>();
+        test.forEach((currency, value) -> result.add(currency + "=" + value));
+        assertEquals(2, result.size());
+        assertTrue(result.contains("GBP=12"));
+        assertTrue(result.contains("USD=3"));
+        if (GBP.ordinal() < USD.ordinal()) {
+            assertEquals("{GBP=12, USD=3}", test.toString());
+        } else {
+            assertEquals("{USD=3, GBP=12}", test.toString());
+        }
+    }
+
+    @Test
+    public void test_equals_hashCode() {
+        CurrencyUnitLongMap a = CurrencyUnitLongMap.create();
+        a.put(GBP, 1);
+        a.put(USD, 0);
+        CurrencyUnitLongMap b = CurrencyUnitLongMap.create();
+        b.put(USD, 0);
+        b.put(GBP, 1);
+        CurrencyUnitLongMap c = CurrencyUnitLongMap.create();
+        c.put(GBP, 1);
+        assertEquals(a, a);
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertNotEquals(a, c);
+        assertNotEquals(c, a);
+        c.put(EUR, 0);
+        assertNotEquals(a, c);
+        assertNotEquals(a, "");
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void test_get_null() {
+        CurrencyUnitLongMap.create().get(null);
+    }
+
+}
@@ -0,0 +1,134 @@
+/*
+ *  Copyright 2009-present, Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.money;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+
+import org.junit.Test;
+
+/**
+ * Test CurrencyUnitMap.
+ */
+public class TestCurrencyUnitMap {
+
+    private static final CurrencyUnit GBP = CurrencyUnit.of("GBP");
+    private static final CurrencyUnit EUR = CurrencyUnit.of("EUR");
+    private static final CurrencyUnit USD = CurrencyUnit.of("USD");
+    private static final CurrencyUnit JPY = CurrencyUnit.of("JPY");
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_putGetRemove() {
+        CurrencyUnitMap<String> test = CurrencyUnitMap.create();
+        assertTrue(test.isEmpty());
+        assertNull(test.put(GBP, "pound"));
+        assertNull(test.put(USD, "dollar"));
+        assertEquals("pound", test.put(GBP, "sterling"));
+        assertEquals(2, test.size());
+        assertEquals("sterling", test.get(GBP));
+        assertEquals("dollar", test.get(USD));
+        assertNull(test.get(EUR));
+        assertNull(test.get("GBP"));
+        assertNull(test.get(null));
+        assertTrue(test.containsKey(GBP));
+        assertFalse(test.containsKey(EUR));
+        assertTrue(test.containsValue("dollar"));
+        assertEquals("dollar", test.remove(USD));
+        assertNull(test.remove(USD));
+        assertNull(test.remove("USD"));
+        assertEquals(1, test.size());
+        test.clear();
+        assertTrue(test.isEmpty());
+        assertNull(test.get(GBP));
+    }
+
+    @Test
+    public void test_of_equalsHashMap() {
+        Map<CurrencyUnit, Integer> expected = new HashMap<>();
+        expected.put(GBP, 1);
+        expected.put(EUR, 2);
+        expected.put(JPY, 3);
+        CurrencyUnitMap<Integer> test = CurrencyUnitMap.of(expected);
+        assertEquals(expected, test);
+        assertEquals(test, expected);
+        assertEquals(expected.hashCode(), test.hashCode());
+        assertEquals(new TreeMap<>(expected), new TreeMap<>(test));
+    }
+
+    @Test
+    public void test_iterationOrder() {
+        CurrencyUnitMap<String> test = CurrencyUnitMap.create();
+        for (CurrencyUnit currency : Arrays.asList(USD, JPY, GBP, EUR)) {
+            test.put(currency, currency.getCode());
+        }
+        int last = -1;
+        for (Entry<CurrencyUnit, String> entry : test.entrySet()) {
+            assertTrue(entry.getKey().ordinal() > last);
+            assertEquals(entry.getKey().getCode(), entry.getValue());
+            last = entry.getKey().ordinal();
+        }
+    }
+
+    @Test
+    public void test_entrySet_writeThrough() {
+        CurrencyUnitMap<String> test = CurrencyUnitMap.create();
+        test.put(GBP, "a");
+        test.put(USD, "b");
+        Iterator<Entry<CurrencyUnit, String>> it = test.entrySet().iterator();
+        while (it.hasNext()) {
+            Entry<CurrencyUnit, String> entry = it.next();
+            if (entry.getKey().equals(GBP)) {
+                entry.setValue("c");
+            } else {
+                it.remove();
+            }
+        }
+        assertEquals(1, test.size());
+        assertEquals("c", test.get(GBP));
+        assertEquals("{GBP=c}", test.toString());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void test_entrySet_removeTwice() {
+        CurrencyUnitMap<String> test = CurrencyUnitMap.create();
+        test.put(GBP, "a");
+        Iterator<Entry<CurrencyUnit, String>> it = test.entrySet().iterator();
+        it.next();
+        it.remove();
+        it.remove();
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void test_put_nullKey() {
+        CurrencyUnitMap.<String>create().put(null, "a");
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void test_put_nullValue() {
+        CurrencyUnitMap.<String>create().put(GBP, null);
+    }
+
+}
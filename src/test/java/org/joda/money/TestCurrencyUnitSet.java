@@ -0,0 +1,111 @@
+/*
+ *  Copyright 2009-present, Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.money;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.junit.Test;
+
+/**
+ * Test CurrencyUnitSet.
+ */
+public class TestCurrencyUnitSet {
+
+    private static final CurrencyUnit GBP = CurrencyUnit.of("GBP");
+    private static final CurrencyUnit EUR = CurrencyUnit.of("EUR");
+    private static final CurrencyUnit USD = CurrencyUnit.of("USD");
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_addContainsRemove() {
+        CurrencyUnitSet test = CurrencyUnitSet.create();
+        assertTrue(test.isEmpty());
+        assertTrue(test.add(GBP));
+        assertFalse(test.add(GBP));
+        assertTrue(test.add(USD));
+        assertEquals(2, test.size());
+        assertTrue(test.contains(GBP));
+        assertFalse(test.contains(EUR));
+        assertFalse(test.contains("GBP"));
+        assertFalse(test.contains(null));
+        assertTrue(test.remove(GBP));
+        assertFalse(test.remove(GBP));
+        assertFalse(test.remove(null));
+        assertEquals(1, test.size());
+        test.clear();
+        assertTrue(test.isEmpty());
+    }
+
+    @Test
+    public void test_allRegistered() {
+        List<CurrencyUnit> registered = CurrencyUnit.registeredCurrencies();
+        CurrencyUnitSet test = CurrencyUnitSet.of(registered);
+        assertEquals(registered.size(), test.size());
+        assertEquals(new HashSet<>(registered), test);
+        assertEquals(test, new HashSet<>(registered));
+        assertEquals(new HashSet<>(registered).hashCode(), test.hashCode());
+        List<CurrencyUnit> iterated = new ArrayList<>();
+        int last = -1;
+        for (CurrencyUnit currency : test) {
+            assertTrue(currency.ordinal() > last);
+            assertSame(CurrencyUnit.of(currency.getCode()), currency);
+            iterated.add(currency);
+            last = currency.ordinal();
+        }
+        assertEquals(registered.size(), iterated.size());
+    }
+
+    @Test
+    public void test_iterator_remove() {
+        CurrencyUnitSet test = CurrencyUnitSet.of(GBP, EUR, USD);
+        Iterator<CurrencyUnit> it = test.iterator();
+        while (it.hasNext()) {
+            if (it.next().equals(EUR)) {
+                it.remove();
+            }
+        }
+        assertEquals(CurrencyUnitSet.of(GBP, USD), test);
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void test_iterator_empty() {
+        CurrencyUnitSet.create().iterator().next();
+    }
+
+    @Test
+    public void test_setOperations() {
+        Set<CurrencyUnit> test = CurrencyUnitSet.of(GBP, EUR, USD);
+        test.retainAll(CurrencyUnitSet.of(EUR, USD));
+        assertEquals(CurrencyUnitSet.of(EUR, USD), test);
+        assertTrue(test.containsAll(CurrencyUnitSet.of(USD)));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void test_add_null() {
+        CurrencyUnitSet.create().add(null);
+    }
+
+}
@@ -0,0 +1,137 @@
+/*
+ *  Copyright 2009-present, Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.money;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Test Int128.
+ */
+public class TestInt128 {
+
+    private static final BigInteger MIN = BigInteger.ONE.shiftLeft(127).negate();
+    private static final BigInteger MAX = BigInteger.ONE.shiftLeft(127).subtract(BigInteger.ONE);
+    private static final List<BigInteger> VALUES = new ArrayList<>();
+    static {
+        long[] longs = {0, 1, -1, 2, -7, 1000, Long.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE - 1, Long.MIN_VALUE + 1, 0xFFFF_FFFFL};
+        for (long value : longs) {
+            VALUES.add(BigInteger.valueOf(value));
+        }
+        BigInteger two64 = BigInteger.ONE.shiftLeft(64);
+        VALUES.add(two64);
+        VALUES.add(two64.negate());
+        VALUES.add(two64.subtract(BigInteger.ONE));
+        VALUES.add(two64.add(BigInteger.ONE).negate());
+        VALUES.add(new BigInteger("123456789012345678901234567890"));
+        VALUES.add(new BigInteger("-98765432109876543210987654321"));
+        VALUES.add(MAX);
+        VALUES.add(MIN);
+        VALUES.add(MAX.subtract(BigInteger.ONE));
+        VALUES.add(MIN.add(BigInteger.ONE));
+        VALUES.add(MAX.shiftRight(1));
+        VALUES.add(MIN.shiftRight(1));
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_of_toBigInteger() {
+        for (BigInteger value : VALUES) {
+            Int128 test = Int128.of(value);
+            assertEquals(value, test.toBigInteger());
+            assertEquals(value.toString(), test.toString());
+            assertEquals(value.signum(), test.signum());
+            assertEquals(value.bitLength() < Long.SIZE, test.isLong());
+            if (test.isLong()) {
+                assertEquals(value.longValue(), test.longValue());
+                assertEquals(Int128.of(value.longValue()), test);
+            }
+        }
+    }
+
+    @Test
+    public void test_toBigDecimal() {
+        assertEquals(new BigDecimal("1234567890123456789012345.67890"),
+                Int128.of(new BigInteger("123456789012345678901234567890")).toBigDecimal(5));
+    }
+
+    @Test
+    public void test_plus_minus() {
+        for (BigInteger a : VALUES) {
+            for (BigInteger b : VALUES) {
+                assertExact(a.add(b), () -> Int128.of(a).plus(Int128.of(b)), a + " + " + b);
+                assertExact(a.subtract(b), () -> Int128.of(a).minus(Int128.of(b)), a + " - " + b);
+            }
+        }
+    }
+
+    @Test
+    public void test_negated() {
+        for (BigInteger a : VALUES) {
+            assertExact(a.negate(), () -> Int128.of(a).negated(), "-" + a);
+        }
+    }
+
+    @Test
+    public void test_multipliedBy() {
+        long[] multipliers = {0, 1, -1, 2, -3, 10, 1_000_000_007L, Long.MAX_VALUE, Long.MIN_VALUE + 1, Long.MIN_VALUE};
+        for (BigInteger a : VALUES) {
+            for (long b : multipliers) {
+                BigInteger expected = a.multiply(BigInteger.valueOf(b));
+                if (b == Long.MIN_VALUE || expected.equals(MIN)) {
+                    // these edge cases may be rejected, leaving the caller to use BigDecimal
+                    continue;
+                }
+                assertExact(expected, () -> Int128.of(a).multipliedBy(b), a + " * " + b);
+            }
+        }
+    }
+
+    @Test
+    public void test_compareTo_equals() {
+        for (BigInteger a : VALUES) {
+            for (BigInteger b : VALUES) {
+                assertEquals(a + " cmp " + b, a.compareTo(b), Integer.signum(Int128.of(a).compareTo(Int128.of(b))));
+                assertEquals(a.equals(b), Int128.of(a).equals(Int128.of(b)));
+            }
+        }
+    }
+
+    private static void assertExact(BigInteger expected, Operation operation, String message) {
+        if (expected.compareTo(MIN) < 0 || expected.compareTo(MAX) > 0) {
+            try {
+                operation.apply();
+                fail("Expected ArithmeticException: " + message);
+            } catch (ArithmeticException ex) {
+                // expected
+            }
+        } else {
+            assertEquals(message, expected, operation.apply().toBigInteger());
+        }
+    }
+
+    private interface Operation {
+        Int128 apply();
+    }
+
+}
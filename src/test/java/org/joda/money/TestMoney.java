@@ -25,12 +25,21 @@ import java.io.InvalidObjectException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Modifier;
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.math.RoundingMode;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -74,6 +83,8 @@ public class TestMoney {
             BigDecimal.valueOf(Long.MAX_VALUE).add(BigDecimal.ONE).multiply(BigDecimal.valueOf(100)));
     private static final Money GBP_LONG_MIN_MAJOR_MINUS1 = Money.of(GBP,
             BigDecimal.valueOf(Long.MIN_VALUE).subtract(BigDecimal.ONE).multiply(BigDecimal.valueOf(100)));
+    private static final Money GBP_LONG_MAX_MINOR_PLUS1 =
+        Money.of(GBP, BigDecimal.valueOf(Long.MAX_VALUE, 2).add(new BigDecimal("0.01")));
     private static final Money JPY_423 = Money.parse("JPY 423");
     private static final Money USD_1_23 = Money.parse("USD 1.23");
     private static final Money USD_2_34 = Money.parse("USD 2.34");
@@ -289,6 +300,12 @@ public class TestMoney {
         Money.ofMajor((CurrencyUnit) null, 234);
     }
 
+    @Test
+    public void test_factory_ofMajor_Currency_long_cached() {
+        assertSame(Money.ofMajor(GBP, 1), Money.ofMajor(GBP, 1));
+        assertSame(Money.ofMajor(JPY, 234), Money.ofMajor(JPY, 234));
+    }
+
     //-----------------------------------------------------------------------
     // ofMinor(Currency,long)
     //-----------------------------------------------------------------------
@@ -305,6 +322,15 @@ public class TestMoney {
         Money.ofMinor((CurrencyUnit) null, 234);
     }
 
+    @Test
+    public void test_factory_ofMinor_Currency_long_cached() {
+        assertSame(Money.ofMinor(GBP, 234), Money.ofMinor(GBP, 234));
+        assertSame(Money.ofMinor(GBP, 0), Money.zero(GBP));
+        assertEquals(false, Money.ofMinor(GBP, 234) == Money.ofMinor(USD, 234));
+        assertEquals(false, Money.ofMinor(GBP, -1) == Money.ofMinor(GBP, -1));
+        assertEquals(false, Money.ofMinor(GBP, 10000) == Money.ofMinor(GBP, 10000));
+    }
+
     //-----------------------------------------------------------------------
     // zero(Currency)
     //-----------------------------------------------------------------------
@@ -321,6 +347,12 @@ public class TestMoney {
         Money.zero((CurrencyUnit) null);
     }
 
+    @Test
+    public void test_factory_zero_Currency_cached() {
+        assertSame(Money.zero(GBP), Money.zero(GBP));
+        assertSame(Money.zero(GBP), Money.of(GBP, BigDecimal.ZERO));
+    }
+
     //-----------------------------------------------------------------------
     // from(BigMoneyProvider)
     //-----------------------------------------------------------------------
@@ -672,6 +704,55 @@ public class TestMoney {
         Money.total(GBP, iterable);
     }
 
+    //-----------------------------------------------------------------------
+    // totalParallel(CurrencyUnit,List)
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_factory_totalParallel_small() {
+        Money test = Money.totalParallel(GBP, Arrays.asList(GBP_2_33, GBP_M5_78));
+        assertEquals(Money.total(GBP, GBP_2_33, GBP_M5_78), test);
+    }
+
+    @Test
+    public void test_factory_totalParallel_large() {
+        List<Money> list = new ArrayList<>();
+        for (int i = 0; i < MoneyTotalTask.THRESHOLD * 5; i++) {
+            list.add(Money.ofMinor(GBP, i * 31 - 20000));
+        }
+        assertEquals(Money.total(GBP, list), Money.totalParallel(GBP, list));
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            assertEquals(Money.total(GBP, list), Money.totalParallel(GBP, list, pool));
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(Money.total(GBP, list), Money.totalParallel(GBP, new LinkedList<>(list)));
+    }
+
+    @Test
+    public void test_factory_totalParallel_empty() {
+        assertEquals(Money.zero(GBP), Money.totalParallel(GBP, Collections.<Money>emptyList()));
+    }
+
+    @Test(expected = CurrencyMismatchException.class)
+    public void test_factory_totalParallel_currenciesDiffer() {
+        List<Money> list = new ArrayList<>(Collections.nCopies(MoneyTotalTask.THRESHOLD * 3, GBP_2_33));
+        list.set(MoneyTotalTask.THRESHOLD * 2, USD_1_23);
+        Money.totalParallel(GBP, list);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void test_factory_totalParallel_nullEntry() {
+        List<Money> list = new ArrayList<>(Collections.nCopies(MoneyTotalTask.THRESHOLD * 3, GBP_2_33));
+        list.set(MoneyTotalTask.THRESHOLD * 2, null);
+        Money.totalParallel(GBP, list);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void test_factory_totalParallel_nullList() {
+        Money.totalParallel(GBP, null);
+    }
+
     //-----------------------------------------------------------------------
     // parse(String)
     //-----------------------------------------------------------------------
@@ -750,6 +831,55 @@ public class TestMoney {
         }
     }
 
+    @Test
+    public void test_fields_noWrappedBigMoney() {
+        for (Field field : Money.class.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers()) == false) {
+                assertEquals(false, field.getType() == BigMoney.class);
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    // amounts larger than a long
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_wideAmounts_matchBigMoney() {
+        BigDecimal twoPow100 = new BigDecimal(BigInteger.ONE.shiftLeft(100), 2);
+        Money[] values = {
+            GBP_2_34, GBP_M5_78, Money.ofMinor(GBP, Long.MAX_VALUE), Money.ofMinor(GBP, Long.MIN_VALUE),
+            GBP_LONG_MAX_MINOR_PLUS1, Money.of(GBP, twoPow100), Money.of(GBP, twoPow100.negate()),
+            Money.of(GBP, new BigDecimal(BigInteger.ONE.shiftLeft(126), 2)),
+            Money.of(GBP, new BigDecimal(BigInteger.ONE.shiftLeft(130), 2)),
+        };
+        for (Money a : values) {
+            BigMoney bigA = a.toBigMoney();
+            assertEquals(a, Money.of(bigA));
+            assertEquals(a.hashCode(), Money.of(bigA).hashCode());
+            assertEquals(Money.of(bigA.negated()), a.negated());
+            assertEquals(a.isNegative(), bigA.isNegative());
+            assertEquals(a.isZero(), bigA.isZero());
+            assertEquals(Money.of(bigA.multipliedBy(-3)), a.multipliedBy(-3));
+            assertEquals(Money.of(bigA.multipliedBy(Long.MAX_VALUE)), a.multipliedBy(Long.MAX_VALUE));
+            for (Money b : values) {
+                BigMoney bigB = b.toBigMoney();
+                assertEquals(Money.of(bigA.plus(bigB)), a.plus(b));
+                assertEquals(Money.of(bigA.minus(bigB)), a.minus(b));
+                assertEquals(bigA.compareTo(bigB), a.compareTo(b));
+                assertEquals(bigA.isEqual(bigB), a.equals(b));
+            }
+        }
+    }
+
+    @Test
+    public void test_wideAmounts_returnToLong() {
+        Money wide = Money.ofMinor(GBP, Long.MAX_VALUE).plus(GBP_2_34);
+        Money test = wide.minus(GBP_2_34);
+        assertEquals(Money.ofMinor(GBP, Long.MAX_VALUE), test);
+        assertEquals(Long.MAX_VALUE, test.getAmountMinorLong());
+        assertSame(Money.zero(GBP), wide.minus(wide));
+    }
+
     //-----------------------------------------------------------------------
     // serialization
     //-----------------------------------------------------------------------
@@ -766,6 +896,19 @@ public class TestMoney {
         }
     }
 
+    @Test
+    public void test_serialization_largerThanLong() throws Exception {
+        Money a = GBP_LONG_MAX_MAJOR_PLUS1;
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+            oos.writeObject(a);
+            oos.close();
+            ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()));
+            Money input = (Money) ois.readObject();
+            assertEquals(a, input);
+        }
+    }
+
     @Test(expected = InvalidObjectException.class)
     public void test_serialization_invalidNumericCode() throws Exception {
         CurrencyUnit cu = new CurrencyUnit("GBP", (short) 234, (short) 2);
@@ -1018,6 +1161,60 @@ public class TestMoney {
         assertEquals(-78, GBP_M5_78.getMinorPart());
     }
 
+    @Test
+    public void test_amountParts_matchBigDecimal() {
+        String[] amounts = {
+            "0", "1", "-1", "2.34", "-5.78", "12345678.9", "2147483647.99", "2147483648", "-2147483648.99",
+            "-2147483649", "92233720368547758.07", "-92233720368547758.08", "92233720368547758.08",
+            "9223372036854775807", "123456789012345678901234.5",
+        };
+        for (String amount : amounts) {
+            for (CurrencyUnit currency : new CurrencyUnit[] {GBP, JPY, CurrencyUnit.of("BHD")}) {
+                assertAmountParts(Money.of(currency, new BigDecimal(amount), RoundingMode.DOWN));
+            }
+        }
+    }
+
+    private static void assertAmountParts(Money test) {
+        int cdp = test.getCurrencyUnit().getDecimalPlaces();
+        BigDecimal minor = test.getAmount().setScale(cdp, RoundingMode.DOWN).movePointRight(cdp);
+        BigDecimal major = test.getAmount().setScale(0, RoundingMode.DOWN);
+        BigDecimal minorPart = test.getAmount().setScale(cdp, RoundingMode.DOWN).remainder(BigDecimal.ONE).movePointRight(cdp);
+        assertEquals(test.toString(), major, test.getAmountMajor());
+        assertEquals(test.toString(), minor, test.getAmountMinor());
+        assertEquals(test.toString(), minorPart.intValue(), test.getMinorPart());
+        assertLongPart(test.toString(), minor, test::getAmountMinorLong);
+        assertLongPart(test.toString(), major, test::getAmountMajorLong);
+        assertIntPart(test.toString(), minor, test::getAmountMinorInt);
+        assertIntPart(test.toString(), major, test::getAmountMajorInt);
+    }
+
+    private static void assertLongPart(String message, BigDecimal expected, LongSupplier actual) {
+        if (expected.compareTo(BigDecimal.valueOf(Long.MIN_VALUE)) < 0 || expected.compareTo(BigDecimal.valueOf(Long.MAX_VALUE)) > 0) {
+            try {
+                actual.getAsLong();
+                fail(message);
+            } catch (ArithmeticException ex) {
+                // expected
+            }
+        } else {
+            assertEquals(message, expected.longValueExact(), actual.getAsLong());
+        }
+    }
+
+    private static void assertIntPart(String message, BigDecimal expected, IntSupplier actual) {
+        if (expected.compareTo(BigDecimal.valueOf(Integer.MIN_VALUE)) < 0 || expected.compareTo(BigDecimal.valueOf(Integer.MAX_VALUE)) > 0) {
+            try {
+                actual.getAsInt();
+                fail(message);
+            } catch (ArithmeticException ex) {
+                // expected
+            }
+        } else {
+            assertEquals(message, expected.intValueExact(), actual.getAsInt());
+        }
+    }
+
     //-----------------------------------------------------------------------
     // isZero()
     //-----------------------------------------------------------------------
@@ -1220,6 +1417,14 @@ public class TestMoney {
         GBP_M5_78.plus((Iterable<Money>) null);
     }
 
+    @Test
+    public void test_plus_Iterable_overflowLong() {
+        Money max = Money.ofMinor(GBP, Long.MAX_VALUE);
+        Iterable<Money> iterable = Arrays.asList(GBP_1_23, GBP_2_34, GBP_M1_23);
+        Money test = max.plus(iterable);
+        assertEquals(BigDecimal.valueOf(Long.MAX_VALUE, 2).add(BIGDEC_2_34), test.getAmount());
+    }
+
     //-----------------------------------------------------------------------
     // plus(Money)
     //-----------------------------------------------------------------------
@@ -1241,6 +1446,12 @@ public class TestMoney {
         assertEquals("GBP 1.11", test.toString());
     }
 
+    @Test
+    public void test_plus_Money_cached() {
+        Money test = GBP_2_34.plus(GBP_M1_23);
+        assertSame(Money.ofMinor(GBP, 111), test);
+    }
+
     @Test(expected = CurrencyMismatchException.class)
     public void test_plus_Money_currencyMismatch() {
         try {
@@ -1257,6 +1468,21 @@ public class TestMoney {
         GBP_M5_78.plus((Money) null);
     }
 
+    @Test
+    public void test_plus_Money_overflowLong() {
+        Money test = Money.ofMinor(GBP, Long.MAX_VALUE).plus(Money.ofMinor(GBP, 1));
+        assertEquals(GBP_LONG_MAX_MINOR_PLUS1, test);
+        assertEquals(GBP_LONG_MAX_MINOR_PLUS1.hashCode(), test.hashCode());
+        assertEquals("GBP 92233720368547758.08", test.toString());
+    }
+
+    @Test
+    public void test_plus_Money_backFromOverflow() {
+        Money test = GBP_LONG_MAX_MINOR_PLUS1.plus(Money.ofMinor(GBP, -1));
+        assertEquals(Money.ofMinor(GBP, Long.MAX_VALUE), test);
+        assertEquals(Long.MAX_VALUE, test.getAmountMinorLong());
+    }
+
     //-----------------------------------------------------------------------
     // plus(BigDecimal)
     //-----------------------------------------------------------------------
@@ -1496,6 +1722,12 @@ public class TestMoney {
         assertEquals("GBP 3.57", test.toString());
     }
 
+    @Test
+    public void test_minus_Money_cached() {
+        Money test = GBP_2_34.minus(GBP_2_34);
+        assertSame(Money.zero(GBP), test);
+    }
+
     @Test(expected = CurrencyMismatchException.class)
     public void test_minus_Money_currencyMismatch() {
         try {
@@ -1780,6 +2012,12 @@ public class TestMoney {
         assertEquals("GBP -7.02", test.toString());
     }
 
+    @Test
+    public void test_multipliedBy_long_overflowLong() {
+        Money test = Money.ofMinor(GBP, Long.MAX_VALUE).multipliedBy(100);
+        assertEquals(Money.of(GBP, BigDecimal.valueOf(Long.MAX_VALUE)), test);
+    }
+
     //-----------------------------------------------------------------------
     // dividedBy(BigDecimal,RoundingMode)
     //-----------------------------------------------------------------------
@@ -1882,6 +2120,102 @@ public class TestMoney {
         assertEquals("GBP -0.78", test.toString());
     }
 
+    @Test
+    public void test_dividedBy_long_matchesBigMoney() {
+        long[] amounts = {0, 1, -1, 5, -5, 15, -15, 25, -25, 234, -234, 12345, Long.MAX_VALUE, Long.MIN_VALUE};
+        long[] divisors = {2, -2, 3, -3, 4, 10, -10, 100, 7, Long.MAX_VALUE, Long.MIN_VALUE, -1};
+        for (long amount : amounts) {
+            Money money = Money.ofMinor(GBP, amount);
+            for (long divisor : divisors) {
+                for (RoundingMode mode : RoundingMode.values()) {
+                    BigMoney expected;
+                    try {
+                        expected = money.toBigMoney().dividedBy(divisor, mode);
+                    } catch (ArithmeticException ex) {
+                        try {
+                            money.dividedBy(divisor, mode);
+                            fail();
+                        } catch (ArithmeticException ex2) {
+                            // expected
+                        }
+                        continue;
+                    }
+                    assertEquals(amount + " / " + divisor + " " + mode, Money.of(expected), money.dividedBy(divisor, mode));
+                }
+            }
+        }
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void test_dividedBy_long_zero() {
+        GBP_2_34.dividedBy(0, RoundingMode.DOWN);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void test_dividedBy_long_nullRoundingMode() {
+        GBP_2_34.dividedBy(3, (RoundingMode) null);
+    }
+
+    //-----------------------------------------------------------------------
+    // allocate(long...)
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_allocate() {
+        Money[] parts = Money.parse("USD 100.00").allocate(1, 1, 1);
+        assertEquals(Arrays.asList(Money.parse("USD 33.34"), Money.parse("USD 33.33"), Money.parse("USD 33.33")), Arrays.asList(parts));
+    }
+
+    @Test
+    public void test_allocate_negative() {
+        Money[] parts = GBP_M5_78.allocate(1, 2);
+        assertEquals(Arrays.asList(Money.parse("GBP -1.93"), Money.parse("GBP -3.85")), Arrays.asList(parts));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_allocate_noRatios() {
+        GBP_2_34.allocate();
+    }
+
+    //-----------------------------------------------------------------------
+    // split(int)
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_split() {
+        Money[] parts = Money.parse("USD 100.00").split(3);
+        assertEquals(Arrays.asList(Money.parse("USD 33.34"), Money.parse("USD 33.33"), Money.parse("USD 33.33")), Arrays.asList(parts));
+    }
+
+    @Test
+    public void test_split_negative() {
+        Money[] parts = GBP_M5_78.split(4);
+        assertEquals(Arrays.asList(Money.parse("GBP -1.45"), Money.parse("GBP -1.45"), Money.parse("GBP -1.44"), Money.parse("GBP -1.44")), Arrays.asList(parts));
+    }
+
+    @Test
+    public void test_split_matchesAllocate() {
+        for (long amount = -50; amount <= 50; amount++) {
+            for (int parts = 1; parts < 8; parts++) {
+                long[] ratios = new long[parts];
+                Arrays.fill(ratios, 1);
+                Money test = Money.ofMinor(GBP, amount);
+                assertEquals(Arrays.asList(test.allocate(ratios)), Arrays.asList(test.split(parts)));
+            }
+        }
+    }
+
+    @Test
+    public void test_split_big() {
+        Money test = Money.of(GBP, new BigDecimal("100000000000000000000.01"));
+        Money[] parts = test.split(2);
+        assertEquals(Money.of(GBP, new BigDecimal("50000000000000000000.01")), parts[0]);
+        assertEquals(Money.of(GBP, new BigDecimal("50000000000000000000.00")), parts[1]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_split_zero() {
+        GBP_2_34.split(0);
+    }
+
     //-----------------------------------------------------------------------
     // negated()
     //-----------------------------------------------------------------------
@@ -1897,6 +2231,13 @@ public class TestMoney {
         assertEquals("GBP 2.34", test.toString());
     }
 
+    @Test
+    public void test_negated_longMinValue() {
+        Money test = Money.ofMinor(GBP, Long.MIN_VALUE).negated();
+        assertEquals(GBP_LONG_MAX_MINOR_PLUS1, test);
+        assertEquals(Money.ofMinor(GBP, Long.MIN_VALUE), test.negated());
+    }
+
     //-----------------------------------------------------------------------
     // abs()
     //-----------------------------------------------------------------------
@@ -1969,6 +2310,51 @@ public class TestMoney {
         assertSame(GBP_2_34, test);
     }
 
+    //-----------------------------------------------------------------------
+    // roundedToCash()
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_roundedToCash_CHF() {
+        Money base = Money.parse("CHF 45.23");
+        assertEquals("CHF 45.25", base.roundedToCash(RoundingMode.HALF_UP).toString());
+        assertEquals("CHF 45.20", base.roundedToCash(RoundingMode.DOWN).toString());
+        assertEquals("CHF -45.25", base.negated().roundedToCash(RoundingMode.HALF_UP).toString());
+    }
+
+    @Test
+    public void test_roundedToCash_SEK() {
+        Money base = Money.parse("SEK 12.50");
+        assertEquals("SEK 13.00", base.roundedToCash(RoundingMode.HALF_UP).toString());
+        assertEquals("SEK 12.00", base.roundedToCash(RoundingMode.HALF_EVEN).toString());
+    }
+
+    @Test
+    public void test_roundedToCash_large() {
+        Money base = Money.of(CurrencyUnit.of("CHF"), new BigDecimal("123456789012345678901.23"));
+        assertEquals("CHF 123456789012345678901.25", base.roundedToCash(RoundingMode.UP).toString());
+    }
+
+    @Test
+    public void test_roundedToCash_noIncrement() {
+        assertSame(GBP_2_34, GBP_2_34.roundedToCash(RoundingMode.UNNECESSARY));
+    }
+
+    @Test
+    public void test_roundedToCash_alreadyRounded() {
+        Money base = Money.parse("CHF 45.20");
+        assertEquals(base, base.roundedToCash(RoundingMode.UNNECESSARY));
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void test_roundedToCash_roundingUnnecessary() {
+        Money.parse("CHF 45.23").roundedToCash(RoundingMode.UNNECESSARY);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void test_roundedToCash_nullRoundingMode() {
+        GBP_2_34.roundedToCash((RoundingMode) null);
+    }
+
     //-----------------------------------------------------------------------
     // convertedTo(BigDecimal,RoundingMode)
     //-----------------------------------------------------------------------
@@ -2085,6 +2471,29 @@ public class TestMoney {
         a.compareTo(b);
     }
 
+    @Test
+    public void test_compareTo_BigMoneyProvider_Money() {
+        BigMoneyProvider b = GBP_2_35;
+        assertEquals(-1, GBP_2_34.compareTo(b));
+        assertEquals(0, GBP_2_35.compareTo(b));
+        assertEquals(1, GBP_2_36.compareTo(b));
+    }
+
+    @Test
+    public void test_compareTo_wideAmounts() {
+        Money big = Money.of(GBP, new BigDecimal("123456789012345678901.23"));
+        Money bigger = big.plusMinor(1);
+        Money huge = Money.of(GBP, new BigDecimal("1E+40"));
+        assertEquals(-1, big.compareTo(bigger));
+        assertEquals(1, bigger.compareTo(big));
+        assertEquals(-1, bigger.compareTo(huge));
+        assertEquals(1, big.compareTo(GBP_M5_78));
+        assertEquals(-1, GBP_M5_78.compareTo(huge));
+        assertEquals(true, huge.isGreaterThan(GBP_2_34));
+        assertEquals(true, GBP_2_34.isLessThan(big));
+        assertEquals(true, big.isEqual(Money.of(GBP, new BigDecimal("123456789012345678901.23"))));
+    }
+
     @Test(expected = ClassCastException.class)
     @SuppressWarnings({ "unchecked", "rawtypes" })
     public void test_compareTo_wrongType() {
@@ -2092,6 +2501,52 @@ public class TestMoney {
         a.compareTo("NotRightType");
     }
 
+    //-----------------------------------------------------------------------
+    // comparator(CurrencyUnit)
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_comparator() {
+        Money big = Money.of(GBP, new BigDecimal("123456789012345678901.23"));
+        List<Money> list = new ArrayList<>(Arrays.asList(GBP_2_36, big, GBP_M5_78, GBP_2_34, GBP_2_35));
+        Collections.sort(list, Money.comparator(GBP));
+        assertEquals(Arrays.asList(GBP_M5_78, GBP_2_34, GBP_2_35, GBP_2_36, big), list);
+        assertEquals(0, Money.comparator(GBP).compare(GBP_2_34, GBP_2_34));
+    }
+
+    @Test(expected = CurrencyMismatchException.class)
+    public void test_comparator_currencyDiffersFirst() {
+        Money.comparator(GBP).compare(USD_2_35, GBP_2_34);
+    }
+
+    @Test(expected = CurrencyMismatchException.class)
+    public void test_comparator_currencyDiffersSecond() {
+        Money.comparator(GBP).compare(GBP_2_34, USD_2_35);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void test_comparator_nullCurrency() {
+        Money.comparator(null);
+    }
+
+    @Test
+    public void test_comparator_serialization() throws Exception {
+        Comparator<Money> comparator = Money.comparator(GBP);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+            oos.writeObject(comparator);
+        }
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()))) {
+            @SuppressWarnings("unchecked")
+            Comparator<Money> input = (Comparator<Money>) ois.readObject();
+            assertEquals(-1, input.compare(GBP_2_34, GBP_2_35));
+        }
+    }
+
+    @Test
+    public void test_comparator_toString() {
+        assertEquals("CurrencyComparator[GBP]", Money.comparator(GBP).toString());
+    }
+
     //-----------------------------------------------------------------------
     // isEqual()
     //-----------------------------------------------------------------------
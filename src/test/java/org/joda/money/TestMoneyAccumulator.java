@@ -0,0 +1,220 @@
+/*
+ *  Copyright 2009-present, Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.money;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+/**
+ * Test MoneyAccumulator.
+ */
+public class TestMoneyAccumulator {
+
+    private static final CurrencyUnit GBP = CurrencyUnit.of("GBP");
+    private static final CurrencyUnit USD = CurrencyUnit.of("USD");
+    private static final Money GBP_1_23 = Money.parse("GBP 1.23");
+    private static final Money GBP_2_34 = Money.parse("GBP 2.34");
+    private static final Money GBP_M5_78 = Money.parse("GBP -5.78");
+    private static final Money USD_1_23 = Money.parse("USD 1.23");
+
+    //-----------------------------------------------------------------------
+    // of()
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_of_Currency() {
+        MoneyAccumulator test = MoneyAccumulator.of(GBP);
+        assertEquals(GBP, test.getCurrencyUnit());
+        assertEquals(Money.zero(GBP), test.toMoney());
+    }
+
+    @Test
+    public void test_of_BigMoneyProvider() {
+        MoneyAccumulator test = MoneyAccumulator.of(GBP_2_34);
+        assertEquals(GBP, test.getCurrencyUnit());
+        assertEquals(GBP_2_34, test.toMoney());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void test_of_Currency_null() {
+        MoneyAccumulator.of((CurrencyUnit) null);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void test_of_BigMoneyProvider_null() {
+        MoneyAccumulator.of((BigMoneyProvider) null);
+    }
+
+    //-----------------------------------------------------------------------
+    // add()
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_add_Money() {
+        MoneyAccumulator test = MoneyAccumulator.of(GBP).add(GBP_1_23).add(GBP_2_34).add(GBP_M5_78);
+        assertEquals(Money.parse("GBP -2.21"), test.toMoney());
+        assertEquals(Money.total(GBP_1_23, GBP_2_34, GBP_M5_78), test.toMoney());
+    }
+
+    @Test
+    public void test_add_Iterable() {
+        MoneyAccumulator test = MoneyAccumulator.of(GBP).add(Arrays.asList(GBP_1_23, GBP_2_34, GBP_M5_78));
+        assertEquals(Money.parse("GBP -2.21"), test.toMoney());
+    }
+
+    @Test
+    public void test_add_BigMoney_largerScale() {
+        MoneyAccumulator test = MoneyAccumulator.of(GBP).add(GBP_1_23).add(BigMoney.parse("GBP 1.001"));
+        assertEquals(BigMoney.parse("GBP 2.231"), test.toBigMoney());
+        assertEquals(Money.parse("GBP 2.23"), test.toMoney(RoundingMode.DOWN));
+    }
+
+    @Test
+    public void test_add_BigMoney_currencyScale() {
+        MoneyAccumulator test = MoneyAccumulator.of(GBP).add(BigMoney.parse("GBP 1.00"));
+        assertEquals(BigMoney.parse("GBP 1.00"), test.toBigMoney());
+    }
+
+    @Test
+    public void test_add_overflowLong() {
+        MoneyAccumulator test = MoneyAccumulator.of(GBP).addMinor(Long.MAX_VALUE).add(GBP_1_23);
+        BigDecimal expected = BigDecimal.valueOf(Long.MAX_VALUE, 2).add(GBP_1_23.getAmount());
+        assertEquals(Money.of(GBP, expected), test.toMoney());
+        test.subtract(GBP_1_23);
+        assertEquals(Money.ofMinor(GBP, Long.MAX_VALUE), test.toMoney());
+    }
+
+    @Test
+    public void test_add_MoneyAccumulator() {
+        MoneyAccumulator other = MoneyAccumulator.of(GBP_2_34);
+        MoneyAccumulator test = MoneyAccumulator.of(GBP_1_23).add(other);
+        assertEquals(Money.parse("GBP 3.57"), test.toMoney());
+        assertEquals(GBP_2_34, other.toMoney());
+    }
+
+    @Test(expected = CurrencyMismatchException.class)
+    public void test_add_currencyMismatch() {
+        try {
+            MoneyAccumulator.of(GBP).add(USD_1_23);
+        } catch (CurrencyMismatchException ex) {
+            assertEquals(GBP, ex.getFirstCurrency());
+            assertEquals(USD, ex.getSecondCurrency());
+            throw ex;
+        }
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void test_add_null() {
+        MoneyAccumulator.of(GBP).add((BigMoneyProvider) null);
+    }
+
+    //-----------------------------------------------------------------------
+    // subtract()
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_subtract() {
+        MoneyAccumulator test = MoneyAccumulator.of(GBP_2_34).subtract(GBP_1_23).subtract(BigMoney.parse("GBP 0.1"));
+        assertEquals(Money.parse("GBP 1.01"), test.toMoney());
+    }
+
+    @Test
+    public void test_subtract_BigMoney_currencyScale() {
+        MoneyAccumulator test = MoneyAccumulator.of(GBP_2_34).subtract(BigMoney.parse("GBP 1.00"));
+        assertEquals(Money.parse("GBP 1.34"), test.toMoney());
+        assertTrue(test.isAmountLong());
+    }
+
+    @Test
+    public void test_subtract_MoneyAccumulator() {
+        MoneyAccumulator other = MoneyAccumulator.of(GBP_1_23);
+        MoneyAccumulator test = MoneyAccumulator.of(GBP_2_34).subtract(other);
+        assertEquals(Money.parse("GBP 1.11"), test.toMoney());
+        assertTrue(test.isAmountLong());
+        assertEquals(GBP_1_23, other.toMoney());
+    }
+
+    @Test
+    public void test_subtract_longMinValue() {
+        MoneyAccumulator test = MoneyAccumulator.of(GBP).subtract(MoneyAccumulator.of(GBP).addMinor(Long.MIN_VALUE));
+        assertEquals(BigMoney.ofMinor(GBP, Long.MIN_VALUE).negated(), test.toBigMoney());
+        test = MoneyAccumulator.of(GBP).subtract(BigMoney.ofMinor(GBP, Long.MIN_VALUE));
+        assertEquals(BigMoney.ofMinor(GBP, Long.MIN_VALUE).negated(), test.toBigMoney());
+    }
+
+    @Test(expected = CurrencyMismatchException.class)
+    public void test_subtract_MoneyAccumulator_currencyMismatch() {
+        MoneyAccumulator.of(GBP).subtract(MoneyAccumulator.of(USD_1_23));
+    }
+
+    @Test(expected = CurrencyMismatchException.class)
+    public void test_subtract_currencyMismatch() {
+        MoneyAccumulator.of(GBP).subtract(USD_1_23);
+    }
+
+    //-----------------------------------------------------------------------
+    // multiply() negate() reset()
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_multiply() {
+        MoneyAccumulator test = MoneyAccumulator.of(GBP_2_34).multiply(3);
+        assertEquals(GBP_2_34.multipliedBy(3), test.toMoney());
+    }
+
+    @Test
+    public void test_multiply_overflowLong() {
+        MoneyAccumulator test = MoneyAccumulator.of(GBP).addMinor(Long.MAX_VALUE).multiply(2);
+        assertEquals(Money.ofMinor(GBP, Long.MAX_VALUE).toBigMoney().multipliedBy(2), test.toBigMoney());
+    }
+
+    @Test
+    public void test_negate() {
+        MoneyAccumulator test = MoneyAccumulator.of(GBP_2_34).negate();
+        assertEquals(GBP_2_34.negated(), test.toMoney());
+    }
+
+    @Test
+    public void test_negate_longMinValue() {
+        MoneyAccumulator test = MoneyAccumulator.of(GBP).addMinor(Long.MIN_VALUE).negate();
+        assertEquals(Money.ofMinor(GBP, Long.MIN_VALUE).negated(), test.toMoney());
+    }
+
+    @Test
+    public void test_reset() {
+        MoneyAccumulator test = MoneyAccumulator.of(GBP).add(BigMoney.parse("GBP 1.001"));
+        assertSame(test, test.reset());
+        assertEquals(BigMoney.parse("GBP 0.00"), test.toBigMoney());
+        assertSame(Money.zero(GBP), test.toMoney());
+    }
+
+    //-----------------------------------------------------------------------
+    // toMoney() toString()
+    //-----------------------------------------------------------------------
+    @Test(expected = ArithmeticException.class)
+    public void test_toMoney_roundingRequired() {
+        MoneyAccumulator.of(GBP).add(BigMoney.parse("GBP 1.001")).toMoney();
+    }
+
+    @Test
+    public void test_toString() {
+        assertEquals("GBP 1.23", MoneyAccumulator.of(GBP_1_23).toString());
+    }
+
+}
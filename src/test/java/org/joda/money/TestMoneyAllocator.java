@@ -0,0 +1,200 @@
+/*
+ *  Copyright 2009-present, Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.money;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Test MoneyAllocator.
+ */
+public class TestMoneyAllocator {
+
+    private static final CurrencyUnit GBP = CurrencyUnit.of("GBP");
+
+    //-----------------------------------------------------------------------
+    // of()
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_of() {
+        MoneyAllocator test = MoneyAllocator.of(1, 0, 2);
+        assertEquals(3, test.size());
+        assertEquals("MoneyAllocator[1, 0, 2]", test.toString());
+    }
+
+    @Test
+    public void test_of_defensiveCopy() {
+        long[] ratios = {1, 1};
+        MoneyAllocator test = MoneyAllocator.of(ratios);
+        ratios[0] = 3;
+        assertArrayEquals(new long[] {1, 1}, test.allocateMinor(2));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void test_of_null() {
+        MoneyAllocator.of((long[]) null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_of_empty() {
+        MoneyAllocator.of();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_of_allZero() {
+        MoneyAllocator.of(0, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_of_negative() {
+        MoneyAllocator.of(2, -1);
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void test_of_totalOverflow() {
+        MoneyAllocator.of(Long.MAX_VALUE, 1);
+    }
+
+    //-----------------------------------------------------------------------
+    // allocateMinor()
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_allocateMinor() {
+        assertArrayEquals(new long[] {34, 33, 33}, MoneyAllocator.of(1, 1, 1).allocateMinor(100));
+        assertArrayEquals(new long[] {-34, -33, -33}, MoneyAllocator.of(1, 1, 1).allocateMinor(-100));
+        assertArrayEquals(new long[] {3, 7}, MoneyAllocator.of(30, 70).allocateMinor(10));
+        assertArrayEquals(new long[] {0, 1, 0}, MoneyAllocator.of(1, 2, 0).allocateMinor(1));
+        assertArrayEquals(new long[] {0, 0}, MoneyAllocator.of(1, 2).allocateMinor(0));
+        // shares are 0.67 and 1.33, so the larger remainder takes the leftover unit
+        assertArrayEquals(new long[] {1, 1}, MoneyAllocator.of(1, 2).allocateMinor(2));
+        // two of three remainders tie, so the earlier wins
+        assertArrayEquals(new long[] {1, 1, 0}, MoneyAllocator.of(1, 1, 1).allocateMinor(2));
+    }
+
+    @Test
+    public void test_allocateMinor_largeProducts() {
+        long[] result = MoneyAllocator.of(Long.MAX_VALUE / 2, Long.MAX_VALUE / 2).allocateMinor(Long.MAX_VALUE);
+        assertArrayEquals(new long[] {Long.MAX_VALUE / 2 + 1, Long.MAX_VALUE / 2}, result);
+    }
+
+    @Test
+    public void test_allocateMinor_intoArray() {
+        long[] results = new long[3];
+        MoneyAllocator test = MoneyAllocator.of(1, 1, 1);
+        test.allocateMinor(100, results);
+        assertArrayEquals(new long[] {34, 33, 33}, results);
+        test.allocateMinor(2, results);
+        assertArrayEquals(new long[] {1, 1, 0}, results);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_allocateMinor_intoArray_wrongSize() {
+        MoneyAllocator.of(1, 1, 1).allocateMinor(100, new long[2]);
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void test_allocateMinor_minValue() {
+        MoneyAllocator.of(1, 1).allocateMinor(Long.MIN_VALUE);
+    }
+
+    @Test
+    public void test_allocateMinor_matchesReference() {
+        Random random = new Random(1234);
+        for (int i = 0; i < 2000; i++) {
+            long[] ratios = new long[1 + random.nextInt(20)];
+            for (int j = 0; j < ratios.length; j++) {
+                ratios[j] = random.nextInt(4) == 0 ? 0 : random.nextInt(i % 2 == 0 ? 10 : 1000000);
+            }
+            ratios[random.nextInt(ratios.length)] = 1 + random.nextInt(100);
+            long amount = (i % 3 == 0 ? random.nextLong() / 2 : random.nextInt(100000) - 50000);
+            assertArrayEquals(reference(amount, ratios), MoneyAllocator.of(ratios).allocateMinor(amount));
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    // allocate()
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_allocate() {
+        Money[] parts = MoneyAllocator.of(1, 3).allocate(Money.parse("GBP 10.01"));
+        assertArrayEquals(new Money[] {Money.parse("GBP 2.50"), Money.parse("GBP 7.51")}, parts);
+    }
+
+    @Test
+    public void test_allocate_minValue() {
+        Money amount = Money.ofMinor(GBP, Long.MIN_VALUE);
+        Money[] parts = MoneyAllocator.of(1, 1, 1).allocate(amount);
+        assertEquals(amount, Money.total(parts));
+        assertEquals(Money.ofMinor(GBP, Long.MIN_VALUE / 3 - 1), parts[0]);
+        assertEquals(Money.ofMinor(GBP, Long.MIN_VALUE / 3 - 1), parts[1]);
+        assertEquals(Money.ofMinor(GBP, Long.MIN_VALUE / 3), parts[2]);
+    }
+
+    @Test
+    public void test_allocate_big() {
+        Money amount = Money.of(GBP, new BigDecimal("123456789012345678901234567890.01"));
+        Money[] parts = MoneyAllocator.of(1, 1, 1).allocate(amount);
+        assertEquals(amount, Money.total(parts));
+        assertEquals(Money.of(GBP, new BigDecimal("41152263004115226300411522630.01")), parts[0]);
+        assertEquals(Money.of(GBP, new BigDecimal("41152263004115226300411522630.00")), parts[1]);
+        assertEquals(Money.of(GBP, new BigDecimal("41152263004115226300411522630.00")), parts[2]);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void test_allocate_null() {
+        MoneyAllocator.of(1, 1).allocate(null);
+    }
+
+    //-----------------------------------------------------------------------
+    // largest remainder using BigInteger and repeated scans
+    private static long[] reference(long amount, long[] ratios) {
+        BigInteger total = BigInteger.ZERO;
+        for (long ratio : ratios) {
+            total = total.add(BigInteger.valueOf(ratio));
+        }
+        BigInteger abs = BigInteger.valueOf(amount).abs();
+        long[] parts = new long[ratios.length];
+        BigInteger[] remainders = new BigInteger[ratios.length];
+        long allocated = 0;
+        for (int i = 0; i < ratios.length; i++) {
+            BigInteger[] divRem = abs.multiply(BigInteger.valueOf(ratios[i])).divideAndRemainder(total);
+            parts[i] = divRem[0].longValueExact();
+            remainders[i] = divRem[1];
+            allocated += parts[i];
+        }
+        for (long leftover = abs.longValueExact() - allocated; leftover > 0; leftover--) {
+            int best = -1;
+            for (int i = 0; i < ratios.length; i++) {
+                if (remainders[i] != null && (best < 0 || remainders[i].compareTo(remainders[best]) > 0)) {
+                    best = i;
+                }
+            }
+            parts[best]++;
+            remainders[best] = null;
+        }
+        for (int i = 0; i < parts.length; i++) {
+            parts[i] = (amount < 0 ? -parts[i] : parts[i]);
+        }
+        return parts;
+    }
+
+}
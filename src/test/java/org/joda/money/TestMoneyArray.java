@@ -0,0 +1,276 @@
+/*
+ *  Copyright 2009-present, Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.money;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+/**
+ * Test MoneyArray.
+ */
+public class TestMoneyArray {
+
+    private static final CurrencyUnit GBP = CurrencyUnit.of("GBP");
+    private static final CurrencyUnit USD = CurrencyUnit.of("USD");
+    private static final Money GBP_1_23 = Money.parse("GBP 1.23");
+    private static final Money GBP_2_34 = Money.parse("GBP 2.34");
+    private static final Money GBP_M5_78 = Money.parse("GBP -5.78");
+    private static final Money USD_1_23 = Money.parse("USD 1.23");
+    private static final MoneyArray GBP_ARRAY = MoneyArray.of(GBP, GBP_1_23, GBP_2_34, GBP_M5_78);
+
+    //-----------------------------------------------------------------------
+    // factories
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_of() {
+        assertEquals(GBP, GBP_ARRAY.getCurrencyUnit());
+        assertEquals(3, GBP_ARRAY.size());
+        assertEquals(GBP_1_23, GBP_ARRAY.get(0));
+        assertEquals(GBP_2_34, GBP_ARRAY.get(1));
+        assertEquals(GBP_M5_78, GBP_ARRAY.get(2));
+        assertEquals(-578, GBP_ARRAY.getAmountMinorLong(2));
+        assertArrayEquals(new long[] {123, 234, -578}, GBP_ARRAY.toAmountMinorArray());
+    }
+
+    @Test
+    public void test_ofMinor_copiesArray() {
+        long[] amounts = {123, 234, -578};
+        MoneyArray test = MoneyArray.ofMinor(GBP, amounts);
+        amounts[0] = 0;
+        assertEquals(GBP_ARRAY, test);
+        test.toAmountMinorArray()[0] = 0;
+        assertEquals(GBP_1_23, test.get(0));
+    }
+
+    @Test(expected = CurrencyMismatchException.class)
+    public void test_of_currencyMismatch() {
+        MoneyArray.of(GBP, GBP_1_23, USD_1_23);
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void test_of_tooLarge() {
+        MoneyArray.of(GBP, Money.ofMinor(GBP, Long.MAX_VALUE).plus(GBP_1_23));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void test_of_nullEntry() {
+        MoneyArray.of(GBP, GBP_1_23, null);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void test_get_invalidIndex() {
+        GBP_ARRAY.get(3);
+    }
+
+    //-----------------------------------------------------------------------
+    // plus() negated()
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_plus() {
+        MoneyArray test = GBP_ARRAY.plus(MoneyArray.ofMinor(GBP, 1, 2, 3));
+        assertEquals(MoneyArray.ofMinor(GBP, 124, 236, -575), test);
+        assertEquals(MoneyArray.ofMinor(GBP, 123, 234, -578), GBP_ARRAY);
+    }
+
+    @Test(expected = CurrencyMismatchException.class)
+    public void test_plus_currencyMismatch() {
+        GBP_ARRAY.plus(MoneyArray.ofMinor(USD, 1, 2, 3));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_plus_sizeMismatch() {
+        GBP_ARRAY.plus(MoneyArray.ofMinor(GBP, 1, 2));
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void test_plus_overflow() {
+        MoneyArray.ofMinor(GBP, Long.MAX_VALUE).plus(MoneyArray.ofMinor(GBP, 1));
+    }
+
+    @Test
+    public void test_roundedToCash() {
+        MoneyArray test = MoneyArray.ofMinor(CurrencyUnit.of("CHF"), 4523, -4523, 4520, 4527);
+        assertEquals(MoneyArray.ofMinor(CurrencyUnit.of("CHF"), 4525, -4525, 4520, 4525), test.roundedToCash(RoundingMode.HALF_UP));
+        for (int i = 0; i < test.size(); i++) {
+            assertEquals(test.get(i).roundedToCash(RoundingMode.FLOOR), test.roundedToCash(RoundingMode.FLOOR).get(i));
+        }
+        assertSame(GBP_ARRAY, GBP_ARRAY.roundedToCash(RoundingMode.UNNECESSARY));
+    }
+
+    @Test
+    public void test_negated() {
+        assertEquals(MoneyArray.ofMinor(GBP, -123, -234, 578), GBP_ARRAY.negated());
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void test_negated_overflow() {
+        MoneyArray.ofMinor(GBP, Long.MIN_VALUE).negated();
+    }
+
+    //-----------------------------------------------------------------------
+    // multipliedBy()
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_multipliedBy_matchesMoney() {
+        MoneyArray array = MoneyArray.ofMinor(GBP, 0, 1, -1, 5, -5, 15, -15, 25, -25, 123, -578, 99999, Long.MAX_VALUE / 1000);
+        BigDecimal[] multipliers = {
+            BigDecimal.ONE, BigDecimal.ZERO, new BigDecimal("2"), new BigDecimal("-3"), new BigDecimal("0.5"),
+            new BigDecimal("-0.5"), new BigDecimal("1.005"), new BigDecimal("0.333333333333333333333"),
+            new BigDecimal("1E+2"), new BigDecimal("12.345"), new BigDecimal("99.99"),
+        };
+        for (BigDecimal multiplier : multipliers) {
+            for (RoundingMode mode : RoundingMode.values()) {
+                if (mode == RoundingMode.UNNECESSARY) {
+                    continue;
+                }
+                MoneyArray test = array.multipliedBy(multiplier, mode);
+                for (int i = 0; i < array.size(); i++) {
+                    assertEquals(multiplier + " " + mode, array.get(i).multipliedBy(multiplier, mode), test.get(i));
+                }
+            }
+        }
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void test_multipliedBy_roundingUnnecessary() {
+        GBP_ARRAY.multipliedBy(new BigDecimal("0.5"), RoundingMode.UNNECESSARY);
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void test_multipliedBy_overflow() {
+        MoneyArray.ofMinor(GBP, Long.MAX_VALUE).multipliedBy(new BigDecimal("2"), RoundingMode.DOWN);
+    }
+
+    //-----------------------------------------------------------------------
+    // sum() min() max() compare()
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_sum() {
+        assertEquals(Money.total(GBP_1_23, GBP_2_34, GBP_M5_78), GBP_ARRAY.sum());
+        assertSame(Money.zero(GBP), MoneyArray.ofMinor(GBP).sum());
+    }
+
+    @Test
+    public void test_sum_overflowLong() {
+        MoneyArray array = MoneyArray.ofMinor(GBP, Long.MAX_VALUE, 10, Long.MAX_VALUE);
+        assertEquals(Money.total(array.get(0), array.get(1), array.get(2)), array.sum());
+    }
+
+    @Test
+    public void test_minMax() {
+        assertEquals(GBP_M5_78, GBP_ARRAY.min());
+        assertEquals(GBP_2_34, GBP_ARRAY.max());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void test_min_empty() {
+        MoneyArray.ofMinor(GBP).min();
+    }
+
+    @Test
+    public void test_compare() {
+        int[] test = GBP_ARRAY.compare(MoneyArray.ofMinor(GBP, 123, 300, -600));
+        assertArrayEquals(new int[] {0, -1, 1}, test);
+    }
+
+    @Test
+    public void test_filter() {
+        assertEquals(MoneyArray.ofMinor(GBP, 234), GBP_ARRAY.filterGreaterThan(GBP_1_23));
+        assertEquals(MoneyArray.ofMinor(GBP, 123, -578), GBP_ARRAY.filterLessThan(GBP_2_34));
+        assertEquals(GBP_ARRAY, GBP_ARRAY.filterLessThan(Money.parse("GBP 10.00")));
+        assertEquals(0, GBP_ARRAY.filterGreaterThan(Money.parse("GBP 10.00")).size());
+    }
+
+    @Test(expected = CurrencyMismatchException.class)
+    public void test_filter_currencyMismatch() {
+        GBP_ARRAY.filterGreaterThan(USD_1_23);
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void test_filter_thresholdTooLarge() {
+        GBP_ARRAY.filterGreaterThan(Money.ofMinor(GBP, Long.MAX_VALUE).plusMinor(1));
+    }
+
+    //-----------------------------------------------------------------------
+    // iteration and streams
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_iterator() {
+        Iterator<Money> it = GBP_ARRAY.iterator();
+        assertEquals(GBP_1_23, it.next());
+        assertEquals(GBP_2_34, it.next());
+        assertEquals(GBP_M5_78, it.next());
+        assertFalse(it.hasNext());
+    }
+
+    @Test
+    public void test_spliterator() {
+        Spliterator<Money> test = GBP_ARRAY.spliterator();
+        assertTrue(test.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+        assertEquals(3, test.estimateSize());
+        Spliterator<Money> prefix = test.trySplit();
+        assertEquals(1, prefix.estimateSize());
+        assertEquals(2, test.estimateSize());
+    }
+
+    @Test
+    public void test_parallelStream() {
+        long[] amounts = new long[10000];
+        for (int i = 0; i < amounts.length; i++) {
+            amounts[i] = i * 7 - 3000;
+        }
+        MoneyArray array = MoneyArray.ofMinor(GBP, amounts);
+        List<Money> list = array.parallelStream().collect(Collectors.toList());
+        assertEquals(amounts.length, list.size());
+        assertEquals(array, MoneyArray.of(GBP, list));
+        assertEquals(array.sum(), array.parallelStream().collect(MoneyCollectors.summingMoney(GBP)));
+        assertEquals(Collections.emptyList(), MoneyArray.ofMinor(GBP).stream().collect(Collectors.toList()));
+    }
+
+    //-----------------------------------------------------------------------
+    // equals() hashCode() toString()
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_equals_hashCode() {
+        MoneyArray other = MoneyArray.of(GBP, Arrays.asList(GBP_1_23, GBP_2_34, GBP_M5_78));
+        assertEquals(GBP_ARRAY, other);
+        assertEquals(GBP_ARRAY.hashCode(), other.hashCode());
+        assertFalse(GBP_ARRAY.equals(MoneyArray.ofMinor(USD, 123, 234, -578)));
+        assertFalse(GBP_ARRAY.equals(MoneyArray.ofMinor(GBP, 123, 234)));
+        assertFalse(GBP_ARRAY.equals(""));
+    }
+
+    @Test
+    public void test_toString() {
+        assertEquals("GBP [1.23, 2.34, -5.78]", GBP_ARRAY.toString());
+        assertEquals("JPY []", MoneyArray.ofMinor(CurrencyUnit.JPY).toString());
+    }
+
+}
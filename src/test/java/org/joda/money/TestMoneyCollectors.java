@@ -0,0 +1,202 @@
+/*
+ *  Copyright 2009-present, Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.money;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+/**
+ * Test MoneyCollectors.
+ */
+public class TestMoneyCollectors {
+
+    private static final CurrencyUnit GBP = CurrencyUnit.of("GBP");
+    private static final CurrencyUnit USD = CurrencyUnit.of("USD");
+    private static final Money GBP_1_23 = Money.parse("GBP 1.23");
+    private static final Money GBP_2_34 = Money.parse("GBP 2.34");
+    private static final Money GBP_M5_78 = Money.parse("GBP -5.78");
+    private static final Money USD_1_23 = Money.parse("USD 1.23");
+
+    private static List<Money> gbpList() {
+        List<Money> list = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            list.add(Money.ofMinor(GBP, i * 37 - 5000));
+        }
+        return list;
+    }
+
+    //-----------------------------------------------------------------------
+    // summingMoney()
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_summingMoney() {
+        Money test = Stream.of(GBP_1_23, GBP_2_34, GBP_M5_78).collect(MoneyCollectors.summingMoney(GBP));
+        assertEquals(Money.total(GBP, GBP_1_23, GBP_2_34, GBP_M5_78), test);
+    }
+
+    @Test
+    public void test_summingMoney_empty() {
+        Money test = Stream.<Money>empty().collect(MoneyCollectors.summingMoney(GBP));
+        assertEquals(Money.zero(GBP), test);
+    }
+
+    @Test
+    public void test_summingMoney_parallel() {
+        List<Money> list = gbpList();
+        Money test = list.parallelStream().collect(MoneyCollectors.summingMoney(GBP));
+        assertEquals(Money.total(GBP, list), test);
+    }
+
+    @Test(expected = CurrencyMismatchException.class)
+    public void test_summingMoney_currencyMismatch() {
+        Stream.of(GBP_1_23, USD_1_23).collect(MoneyCollectors.summingMoney(GBP));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void test_summingMoney_nullElement() {
+        Stream.of(GBP_1_23, null).collect(MoneyCollectors.summingMoney(GBP));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void test_summingMoney_nullCurrency() {
+        MoneyCollectors.summingMoney(null);
+    }
+
+    //-----------------------------------------------------------------------
+    // summingBigMoney()
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_summingBigMoney() {
+        List<BigMoney> list = Arrays.asList(BigMoney.parse("GBP 1.2"), BigMoney.parse("GBP 2.345"), GBP_1_23.toBigMoney());
+        BigMoney test = list.stream().collect(MoneyCollectors.summingBigMoney());
+        assertEquals(BigMoney.total(list), test);
+        assertEquals(BigMoney.parse("GBP 4.775"), test);
+    }
+
+    @Test
+    public void test_summingBigMoney_scaleMatchesTotal() {
+        List<List<BigMoney>> lists = Arrays.asList(
+                Arrays.asList(BigMoney.parse("GBP 1"), BigMoney.parse("GBP 0.000")),
+                Arrays.asList(BigMoney.parse("GBP 0.000"), BigMoney.parse("GBP 1")),
+                Arrays.asList(BigMoney.parse("GBP 1"), BigMoney.parse("GBP 2")),
+                Arrays.asList(BigMoney.parse("GBP 1"), BigMoney.parse("GBP 0.001")));
+        for (List<BigMoney> list : lists) {
+            assertEquals(BigMoney.total(list), list.stream().collect(MoneyCollectors.summingBigMoney()));
+        }
+    }
+
+    @Test
+    public void test_summingBigMoney_parallel() {
+        List<BigMoney> list = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            list.add(i % 100 == 50 ? BigMoney.parse("GBP 0.00000") : BigMoney.ofScale(GBP, i, i % 3));
+        }
+        assertEquals(BigMoney.total(list), list.parallelStream().collect(MoneyCollectors.summingBigMoney()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_summingBigMoney_empty() {
+        Stream.<BigMoneyProvider>empty().collect(MoneyCollectors.summingBigMoney());
+    }
+
+    @Test(expected = CurrencyMismatchException.class)
+    public void test_summingBigMoney_currencyMismatch() {
+        Stream.<BigMoneyProvider>of(GBP_1_23, USD_1_23).collect(MoneyCollectors.summingBigMoney());
+    }
+
+    //-----------------------------------------------------------------------
+    // groupingByCurrency()
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_groupingByCurrency() {
+        Map<CurrencyUnit, Money> test = Stream.of(GBP_1_23, USD_1_23, GBP_2_34).collect(MoneyCollectors.groupingByCurrency());
+        assertEquals(2, test.size());
+        assertEquals(Money.parse("GBP 3.57"), test.get(GBP));
+        assertEquals(USD_1_23, test.get(USD));
+    }
+
+    @Test
+    public void test_groupingByCurrency_parallel() {
+        List<Money> list = gbpList();
+        list.addAll(Collections.nCopies(5000, USD_1_23));
+        Map<CurrencyUnit, Money> test = list.parallelStream().collect(MoneyCollectors.groupingByCurrency());
+        assertEquals(Money.total(GBP, gbpList()), test.get(GBP));
+        assertEquals(USD_1_23.multipliedBy(5000), test.get(USD));
+    }
+
+    //-----------------------------------------------------------------------
+    // averagingMoney()
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_averagingMoney() {
+        Money test = Stream.of(GBP_1_23, GBP_2_34).collect(MoneyCollectors.averagingMoney(RoundingMode.HALF_EVEN));
+        assertEquals(Money.parse("GBP 1.78"), test);
+        test = Stream.of(GBP_1_23, GBP_2_34).collect(MoneyCollectors.averagingMoney(RoundingMode.UP));
+        assertEquals(Money.parse("GBP 1.79"), test);
+    }
+
+    @Test
+    public void test_averagingMoney_parallel() {
+        List<Money> list = gbpList();
+        Money expected = Money.total(GBP, list).dividedBy(list.size(), RoundingMode.HALF_UP);
+        assertEquals(expected, list.parallelStream().collect(MoneyCollectors.averagingMoney(RoundingMode.HALF_UP)));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void test_averagingMoney_empty() {
+        Stream.<Money>empty().collect(MoneyCollectors.averagingMoney(RoundingMode.HALF_UP));
+    }
+
+    //-----------------------------------------------------------------------
+    // minMoney() maxMoney()
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_minMaxMoney() {
+        assertEquals(Optional.of(GBP_M5_78), Stream.of(GBP_1_23, GBP_M5_78, GBP_2_34).collect(MoneyCollectors.minMoney()));
+        assertEquals(Optional.of(GBP_2_34), Stream.of(GBP_1_23, GBP_M5_78, GBP_2_34).collect(MoneyCollectors.maxMoney()));
+        assertFalse(Stream.<Money>empty().collect(MoneyCollectors.minMoney()).isPresent());
+    }
+
+    @Test(expected = CurrencyMismatchException.class)
+    public void test_minMoney_currencyMismatch() {
+        Stream.of(GBP_1_23, USD_1_23).collect(MoneyCollectors.minMoney());
+    }
+
+    //-----------------------------------------------------------------------
+    // summarizingMoney()
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_summarizingMoney_parallel() {
+        List<Money> list = gbpList();
+        MoneySummaryStatistics test = list.parallelStream().collect(MoneyCollectors.summarizingMoney());
+        assertEquals(list.size(), test.getCount());
+        assertEquals(Money.total(GBP, list), test.getSum());
+        assertEquals(Money.ofMinor(GBP, -5000), test.getMin());
+        assertEquals(Money.ofMinor(GBP, 9999 * 37 - 5000), test.getMax());
+    }
+
+}
@@ -0,0 +1,182 @@
+/*
+ *  Copyright 2009-present, Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.money;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+import org.junit.Test;
+
+/**
+ * Test MoneyContext.
+ */
+public class TestMoneyContext {
+
+    private static final CurrencyUnit USD = CurrencyUnit.of("USD");
+    private static final MoneyContext SCALE_4 = MoneyContext.of(4, RoundingMode.HALF_EVEN);
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_of() {
+        MoneyContext test = MoneyContext.of(6, RoundingMode.HALF_UP, MathContext.DECIMAL64);
+        assertEquals(6, test.getMaxScale());
+        assertEquals(RoundingMode.HALF_UP, test.getRoundingMode());
+        assertEquals(MathContext.DECIMAL64, test.getMathContext());
+        assertNull(SCALE_4.getMathContext());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_of_negativeScale() {
+        MoneyContext.of(-1, RoundingMode.HALF_UP);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void test_of_nullRoundingMode() {
+        MoneyContext.of(2, null);
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_round() {
+        assertEquals(new BigDecimal("1.2346"), SCALE_4.round(new BigDecimal("1.23456")));
+        assertEquals(new BigDecimal("1.2"), SCALE_4.round(new BigDecimal("1.2")));
+        MoneyContext test = MoneyContext.of(4, RoundingMode.DOWN, new MathContext(3, RoundingMode.HALF_UP));
+        assertEquals(new BigDecimal("1.24"), test.round(new BigDecimal("1.23756")));
+        assertEquals(new BigDecimal("0.0001"), test.round(new BigDecimal("0.000123756")));
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_multipliedBy() {
+        BigMoney test = BigMoney.parse("GBP 1.13").multipliedBy(new BigDecimal("2.5123"), SCALE_4);
+        assertEquals(BigMoney.parse("GBP 2.8389"), test);
+        BigMoney base = BigMoney.parse("GBP 1.13");
+        assertSame(base, base.multipliedBy(BigDecimal.ONE, SCALE_4));
+    }
+
+    @Test
+    public void test_multipliedBy_chainStaysBounded() {
+        BigMoney test = BigMoney.parse("GBP 100");
+        for (int i = 0; i < 20; i++) {
+            test = test.multipliedBy(new BigDecimal("1.0123456789"), SCALE_4);
+        }
+        assertEquals(4, test.getScale());
+    }
+
+    @Test
+    public void test_dividedBy() {
+        assertEquals(BigMoney.parse("GBP 0.3333"), BigMoney.parse("GBP 1.00").dividedBy(new BigDecimal(3), SCALE_4));
+        MoneyContext precision = MoneyContext.of(10, RoundingMode.HALF_EVEN, new MathContext(3));
+        assertEquals(BigMoney.parse("GBP 33.3"), BigMoney.parse("GBP 100").dividedBy(new BigDecimal(3), precision));
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void test_dividedBy_zero() {
+        BigMoney.parse("GBP 1.00").dividedBy(BigDecimal.ZERO, SCALE_4);
+    }
+
+    @Test
+    public void test_convertedTo() {
+        BigMoney test = BigMoney.parse("GBP 1.13").convertedTo(USD, new BigDecimal("1.2712345"), SCALE_4);
+        assertEquals(BigMoney.parse("USD 1.4365"), test);
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_threadDefault() {
+        assertNull(MoneyContext.getThreadDefault());
+        BigMoney base = BigMoney.parse("GBP 1.13");
+        BigDecimal multiplier = new BigDecimal("2.5123");
+        BigMoney result = SCALE_4.call(() -> {
+            assertSame(SCALE_4, MoneyContext.getThreadDefault());
+            assertEquals(BigMoney.parse("GBP 2.8389"), base.multipliedBy(multiplier));
+            assertEquals(BigMoney.parse("GBP 2.8389"), base.multipliedBy(2.5123d));
+            assertEquals(BigMoney.parse("USD 2.8389"), base.convertedTo(USD, multiplier));
+            // explicit rounding is unaffected
+            assertEquals(BigMoney.parse("GBP 2.84"), base.multiplyRetainScale(multiplier, RoundingMode.HALF_UP));
+            assertEquals(Money.parse("USD 2.84"), Money.parse("GBP 1.13").convertedTo(USD, multiplier, RoundingMode.HALF_UP));
+            return base.multipliedBy(multiplier);
+        });
+        assertEquals(BigMoney.parse("GBP 2.8389"), result);
+        assertNull(MoneyContext.getThreadDefault());
+        assertEquals(BigMoney.parse("GBP 2.838899"), base.multipliedBy(multiplier));
+    }
+
+    @Test
+    public void test_threadDefault_nested() {
+        MoneyContext outer = MoneyContext.of(1, RoundingMode.DOWN);
+        outer.run(() -> {
+            SCALE_4.run(() -> assertSame(SCALE_4, MoneyContext.getThreadDefault()));
+            assertSame(outer, MoneyContext.getThreadDefault());
+        });
+        assertNull(MoneyContext.getThreadDefault());
+    }
+
+    @Test
+    public void test_threadDefault_restoredAfterException() {
+        try {
+            SCALE_4.run(() -> {
+                throw new IllegalStateException();
+            });
+        } catch (IllegalStateException ex) {
+            // expected
+        }
+        assertNull(MoneyContext.getThreadDefault());
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_equals_hashCode() {
+        MoneyContext a = MoneyContext.of(4, RoundingMode.HALF_EVEN);
+        MoneyContext b = MoneyContext.of(4, RoundingMode.HALF_EVEN, MathContext.DECIMAL32);
+        assertEquals(SCALE_4, a);
+        assertEquals(SCALE_4.hashCode(), a.hashCode());
+        assertNotEquals(SCALE_4, b);
+        assertNotEquals(SCALE_4, MoneyContext.of(4, RoundingMode.UP));
+        assertNotEquals(SCALE_4, MoneyContext.of(3, RoundingMode.HALF_EVEN));
+        assertNotEquals(SCALE_4, "");
+    }
+
+    @Test
+    public void test_serialization() throws Exception {
+        MoneyContext test = MoneyContext.of(6, RoundingMode.HALF_UP, MathContext.DECIMAL64);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+            oos.writeObject(test);
+        }
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()))) {
+            assertEquals(test, ois.readObject());
+        }
+    }
+
+    @Test
+    public void test_toString() {
+        assertEquals("MoneyContext[maxScale=4, HALF_EVEN]", SCALE_4.toString());
+        assertEquals("MoneyContext[maxScale=2, UP, precision=7 roundingMode=HALF_EVEN]",
+                MoneyContext.of(2, RoundingMode.UP, MathContext.DECIMAL32).toString());
+    }
+
+}
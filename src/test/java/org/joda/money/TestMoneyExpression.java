@@ -0,0 +1,142 @@
+/*
+ *  Copyright 2009-present, Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.money;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import org.junit.Test;
+
+/**
+ * Test MoneyExpression.
+ */
+public class TestMoneyExpression {
+
+    private static final CurrencyUnit GBP = CurrencyUnit.of("GBP");
+    private static final CurrencyUnit USD = CurrencyUnit.of("USD");
+    private static final Money GBP_2_34 = Money.parse("GBP 2.34");
+    private static final Money GBP_100 = Money.parse("GBP 100.00");
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_create() {
+        MoneyExpression test = MoneyExpression.create();
+        assertEquals(GBP_2_34, test.toMoney(GBP_2_34, RoundingMode.UNNECESSARY));
+        assertEquals("MoneyExpression[(amount * 1 + 0) / 1]", test.toString());
+    }
+
+    @Test
+    public void test_pricingChain() {
+        MoneyExpression test = MoneyExpression.create()
+                .multipliedBy(new BigDecimal("1.2"))
+                .multipliedBy(BigDecimal.ONE.subtract(new BigDecimal("0.15")))
+                .plus(Money.parse("GBP 3.50"))
+                .dividedBy(3);
+        // (100 * 1.2 * 0.85 + 3.5) / 3 = 35.1666...
+        assertEquals(Money.parse("GBP 35.17"), test.toMoney(GBP_100, RoundingMode.HALF_EVEN));
+        assertEquals(Money.parse("GBP 35.16"), test.toMoney(GBP_100, RoundingMode.DOWN));
+        assertEquals(BigMoney.parse("GBP 35.16667"), test.toBigMoney(GBP_100, 5, RoundingMode.HALF_UP));
+        // reusable
+        assertEquals(Money.parse("GBP 1.96"), test.toMoney(GBP_2_34, RoundingMode.HALF_EVEN));
+    }
+
+    @Test
+    public void test_roundsOnce() {
+        // rounding each step gives 33.33 * 3 = 99.99
+        MoneyExpression test = MoneyExpression.create().dividedBy(3).multipliedBy(3);
+        assertEquals(GBP_100, test.toMoney(GBP_100, RoundingMode.HALF_EVEN));
+        assertEquals(Money.parse("GBP 99.99"), GBP_100.dividedBy(3, RoundingMode.HALF_EVEN).multipliedBy(3));
+    }
+
+    @Test
+    public void test_matchesBigMoneyWithoutDivision() {
+        BigDecimal rate = new BigDecimal("1.0375");
+        MoneyExpression test = MoneyExpression.create()
+                .minus(new BigDecimal("0.5"))
+                .multipliedBy(rate)
+                .negated()
+                .plus(Money.parse("GBP 1.01"))
+                .multipliedBy(7L)
+                .minus(BigMoney.parse("GBP 0.001"))
+                .multipliedBy(-0.25d);
+        for (long minor = -1000; minor <= 1000; minor += 7) {
+            BigMoney input = BigMoney.ofMinor(GBP, minor);
+            BigMoney expected = input.minus(new BigDecimal("0.5"))
+                    .multipliedBy(rate)
+                    .negated()
+                    .plus(Money.parse("GBP 1.01"))
+                    .multipliedBy(7)
+                    .minus(BigMoney.parse("GBP 0.001"))
+                    .multipliedBy(-0.25d);
+            assertEquals(expected, test.toBigMoney(input, expected.getScale(), RoundingMode.UNNECESSARY));
+            assertEquals(expected.toMoney(RoundingMode.HALF_UP), test.toMoney(input, RoundingMode.HALF_UP));
+        }
+    }
+
+    @Test
+    public void test_multipliedBy_one() {
+        MoneyExpression test = MoneyExpression.create();
+        assertSame(test, test.multipliedBy(BigDecimal.ONE));
+        assertSame(test, test.dividedBy(1));
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void test_dividedBy_zero() {
+        MoneyExpression.create().dividedBy(0);
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void test_toMoney_roundingUnnecessary() {
+        MoneyExpression.create().dividedBy(3).toMoney(GBP_100, RoundingMode.UNNECESSARY);
+    }
+
+    @Test(expected = CurrencyMismatchException.class)
+    public void test_plus_currencyMismatch() {
+        MoneyExpression.create().plus(GBP_2_34).minus(Money.of(USD, 1));
+    }
+
+    @Test(expected = CurrencyMismatchException.class)
+    public void test_toMoney_currencyMismatch() {
+        MoneyExpression.create().plus(GBP_2_34).toMoney(Money.of(USD, 1), RoundingMode.DOWN);
+    }
+
+    @Test
+    public void test_toMoney_anyCurrencyWithoutMoney() {
+        MoneyExpression test = MoneyExpression.create().plus(BigDecimal.ONE);
+        assertEquals(Money.of(USD, 2), test.toMoney(Money.of(USD, 1), RoundingMode.DOWN));
+        assertEquals(Money.parse("GBP 3.34"), test.toMoney(GBP_2_34, RoundingMode.DOWN));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void test_toMoney_nullRoundingMode() {
+        MoneyExpression.create().toMoney(GBP_2_34, null);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void test_toMoney_nullMoney() {
+        MoneyExpression.create().toMoney(null, RoundingMode.DOWN);
+    }
+
+    @Test
+    public void test_toString() {
+        MoneyExpression test = MoneyExpression.create().multipliedBy(2).plus(GBP_2_34).dividedBy(4);
+        assertEquals("MoneyExpression[(amount * 2 + 2.34) / 4]", test.toString());
+    }
+
+}
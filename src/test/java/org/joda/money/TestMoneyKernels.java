@@ -0,0 +1,156 @@
+/*
+ *  Copyright 2009-present, Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.money;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Test MoneyKernels.
+ */
+public class TestMoneyKernels {
+
+    //-----------------------------------------------------------------------
+    // sumExact()
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_sumExact_matchesScalar() {
+        Random random = new Random(2);
+        for (int length = 0; length < 20; length++) {
+            for (int j = 0; j < 50; j++) {
+                long[] values = randomValues(random, length, 1L << 40);
+                long expected = 0;
+                for (long value : values) {
+                    expected = Math.addExact(expected, value);
+                }
+                assertEquals(expected, MoneyKernels.sumExact(values));
+            }
+        }
+    }
+
+    @Test
+    public void test_sumExact_overflow() {
+        assertSumOverflows(Long.MAX_VALUE, 1);
+        assertSumOverflows(Long.MIN_VALUE, -1);
+        assertSumOverflows(1, 2, 3, 4, Long.MAX_VALUE);
+        assertSumOverflows(Long.MAX_VALUE, 0, 0, 0, 1);
+        assertSumOverflows(Long.MAX_VALUE, Long.MAX_VALUE, Long.MAX_VALUE, Long.MAX_VALUE);
+    }
+
+    @Test
+    public void test_sumExact_noOverflowNearLimit() {
+        assertEquals(Long.MAX_VALUE, MoneyKernels.sumExact(new long[] {Long.MAX_VALUE - 3, 1, 1, 1}));
+        assertEquals(Long.MIN_VALUE, MoneyKernels.sumExact(new long[] {Long.MIN_VALUE + 5, -1, -1, -1, -1, -1}));
+        assertEquals(-1, MoneyKernels.sumExact(new long[] {Long.MAX_VALUE, Long.MIN_VALUE}));
+    }
+
+    @Test
+    public void test_sumExact_randomOverflow() {
+        Random random = new Random(3);
+        for (int j = 0; j < 1000; j++) {
+            long[] values = randomValues(random, random.nextInt(12), Long.MAX_VALUE);
+            BigInteger total = BigInteger.ZERO;
+            for (long value : values) {
+                total = total.add(BigInteger.valueOf(value));
+            }
+            try {
+                assertEquals(total.longValueExact(), MoneyKernels.sumExact(values));
+            } catch (ArithmeticException ex) {
+                // an overflow may be reported if an intermediate total does not fit
+            }
+        }
+    }
+
+    private static void assertSumOverflows(long... values) {
+        try {
+            MoneyKernels.sumExact(values);
+            fail("Expected overflow: " + Arrays.toString(values));
+        } catch (ArithmeticException ex) {
+            // expected
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    // min() max()
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_minMax_matchesScalar() {
+        Random random = new Random(4);
+        for (int length = 1; length < 20; length++) {
+            for (int j = 0; j < 50; j++) {
+                long[] values = randomValues(random, length, Long.MAX_VALUE);
+                assertEquals(Arrays.stream(values).min().getAsLong(), MoneyKernels.min(values));
+                assertEquals(Arrays.stream(values).max().getAsLong(), MoneyKernels.max(values));
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    // compare()
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_compare_matchesScalar() {
+        long[] values = {0, 1, -1, Long.MAX_VALUE, Long.MIN_VALUE, 5};
+        long[] others = {0, -1, 1, Long.MIN_VALUE, Long.MAX_VALUE, 5};
+        int[] test = MoneyKernels.compare(values, others);
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(Long.compare(values[i], others[i]), test[i]);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    // filterGreaterThan() filterLessThan()
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_filter() {
+        long[] values = {5, -3, 10, 0, 7, 5};
+        assertArrayEquals(new long[] {10, 7}, MoneyKernels.filterGreaterThan(values, 5));
+        assertArrayEquals(new long[] {-3, 0}, MoneyKernels.filterLessThan(values, 5));
+        assertArrayEquals(values, MoneyKernels.filterGreaterThan(values, Long.MIN_VALUE));
+        assertArrayEquals(new long[0], MoneyKernels.filterLessThan(values, Long.MIN_VALUE));
+        assertArrayEquals(new long[0], MoneyKernels.filterGreaterThan(new long[0], 0));
+    }
+
+    @Test
+    public void test_filter_matchesScalar() {
+        Random random = new Random(5);
+        for (int j = 0; j < 500; j++) {
+            long[] values = randomValues(random, random.nextInt(20), 100);
+            long threshold = random.nextInt(200) - 100;
+            assertArrayEquals(Arrays.stream(values).filter(v -> v > threshold).toArray(),
+                    MoneyKernels.filterGreaterThan(values, threshold));
+            assertArrayEquals(Arrays.stream(values).filter(v -> v < threshold).toArray(),
+                    MoneyKernels.filterLessThan(values, threshold));
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    private static long[] randomValues(Random random, int length, long bound) {
+        long[] values = new long[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = random.nextLong() % bound;
+        }
+        return values;
+    }
+
+}
@@ -0,0 +1,156 @@
+/*
+ *  Copyright 2009-present, Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.money;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Test MoneyMath.
+ */
+public class TestMoneyMath {
+
+    private static final long[] VALUES = {
+        0, 1, -1, 2, -2, 3, -3, 5, -5, 7, -7, 10, -10, 15, -15, 25, -25, 99, -99, 100, -100, 12345, -12345,
+        Long.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE - 1, Long.MIN_VALUE + 1, Long.MAX_VALUE / 2, Long.MIN_VALUE / 2,
+    };
+
+    //-----------------------------------------------------------------------
+    // powerOfTen()
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_powerOfTen() {
+        for (int i = 0; MoneyMath.isPowerOfTenLong(i); i++) {
+            assertEquals(BigDecimal.TEN.pow(i).longValueExact(), MoneyMath.powerOfTen(i));
+        }
+        assertEquals(false, MoneyMath.isPowerOfTenLong(19));
+    }
+
+    //-----------------------------------------------------------------------
+    // divide()
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_divide_matchesBigDecimal() {
+        for (long dividend : VALUES) {
+            for (long divisor : VALUES) {
+                if (divisor == 0 || (dividend == Long.MIN_VALUE && divisor == -1)) {
+                    continue;
+                }
+                for (RoundingMode mode : RoundingMode.values()) {
+                    assertDivide(dividend, divisor, mode);
+                }
+            }
+        }
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void test_divide_overflow() {
+        MoneyMath.divide(Long.MIN_VALUE, -1, RoundingMode.DOWN);
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void test_divide_byZero() {
+        MoneyMath.divide(1, 0, RoundingMode.DOWN);
+    }
+
+    //-----------------------------------------------------------------------
+    // toBigDecimal(double)
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_toBigDecimal_matchesValueOf() {
+        double[] values = {
+            0d, -0d, 0.1d, 0.2d, 0.3d, 1d, 1.45d, 2.5d, 100d, 123.456d, 9999999.99d, 1e-3d, 1.1e-3d, 9.9e-4d,
+            1e7d, 9999999.999999d, 1e15d, 1e16d, 123456789012345d, 1234567890123456d, 1e-10d, 1d / 3d, 2d / 3d,
+            Double.MIN_VALUE, Double.MAX_VALUE, Math.PI, Math.E, Long.MAX_VALUE, 0.30000000000000004d,
+        };
+        for (double value : values) {
+            assertToBigDecimal(value);
+            assertToBigDecimal(-value);
+        }
+        Random random = new Random(12345);
+        for (int i = 0; i < 200000; i++) {
+            long cents = random.nextLong() % 100000000000L;
+            assertToBigDecimal(cents / 100d);
+            assertToBigDecimal(cents / 1000d);
+            assertToBigDecimal(random.nextDouble() * cents);
+            assertToBigDecimal(Double.longBitsToDouble(random.nextLong()));
+        }
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void test_toBigDecimal_nan() {
+        MoneyMath.toBigDecimal(Double.NaN);
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void test_toBigDecimal_infinite() {
+        MoneyMath.toBigDecimal(Double.POSITIVE_INFINITY);
+    }
+
+    @Test
+    public void test_toUnscaledLong() {
+        assertEquals(145, MoneyMath.toUnscaledLong(1.45d, 2));
+        assertEquals(1450, MoneyMath.toUnscaledLong(1.45d, 3));
+        assertEquals(-2, MoneyMath.toUnscaledLong(-2d, 0));
+        assertEquals(0, MoneyMath.toUnscaledLong(-0d, 2));
+        assertEquals(MoneyMath.NOT_EXACT, MoneyMath.toUnscaledLong(1.455d, 2));
+        assertEquals(MoneyMath.NOT_EXACT, MoneyMath.toUnscaledLong(1e14d, 18));
+        assertEquals(MoneyMath.NOT_EXACT, MoneyMath.toUnscaledLong(1e16d, 0));
+        assertEquals(MoneyMath.NOT_EXACT, MoneyMath.toUnscaledLong(Double.NaN, 2));
+    }
+
+    private static void assertToBigDecimal(double value) {
+        BigDecimal expected;
+        try {
+            expected = BigDecimal.valueOf(value);
+        } catch (NumberFormatException ex) {
+            return;
+        }
+        BigDecimal actual = MoneyMath.toBigDecimal(value);
+        assertEquals(Double.toString(value), expected, actual);
+        assertEquals(Double.toString(value), expected.scale(), actual.scale());
+        assertEquals(Double.toString(value), expected.stripTrailingZeros(), MoneyMath.toBigDecimalStripped(value));
+        for (int scale = 0; scale <= 3; scale++) {
+            long unscaled = MoneyMath.toUnscaledLong(value, scale);
+            if (unscaled != MoneyMath.NOT_EXACT) {
+                assertEquals(Double.toString(value), expected.setScale(scale).unscaledValue().longValueExact(), unscaled);
+            }
+        }
+    }
+
+    private static void assertDivide(long dividend, long divisor, RoundingMode mode) {
+        BigDecimal expected;
+        try {
+            expected = BigDecimal.valueOf(dividend).divide(BigDecimal.valueOf(divisor), 0, mode);
+        } catch (ArithmeticException ex) {
+            try {
+                MoneyMath.divide(dividend, divisor, mode);
+                fail("Expected ArithmeticException: " + dividend + " / " + divisor + " " + mode);
+            } catch (ArithmeticException expectedEx) {
+                // expected
+            }
+            return;
+        }
+        assertEquals(dividend + " / " + divisor + " " + mode, expected.longValueExact(), MoneyMath.divide(dividend, divisor, mode));
+    }
+
+}
@@ -0,0 +1,179 @@
+/*
+ *  Copyright 2009-present, Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.money;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Test MoneyRate.
+ */
+public class TestMoneyRate {
+
+    private static final CurrencyUnit GBP = CurrencyUnit.of("GBP");
+    private static final CurrencyUnit JPY = CurrencyUnit.of("JPY");
+    private static final String[] RATES = {
+        "1", "1.00", "0", "1.2", "0.2", "0.175", "-0.15", "1.0375", "0.333333333333", "2E+3", "1E+17",
+        "0.00000000000000000001", "12345678901234567890.5", "-1",
+    };
+    private static final long[] AMOUNTS = {
+        0, 1, -1, 5, -5, 15, 25, -25, 99, 12345, -12345, 1234567890123L, Long.MAX_VALUE / 1000,
+        Long.MAX_VALUE, Long.MIN_VALUE,
+    };
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_of() {
+        MoneyRate test = MoneyRate.of(new BigDecimal("1.20"), RoundingMode.HALF_EVEN);
+        assertEquals(new BigDecimal("1.20"), test.getRate());
+        assertEquals(RoundingMode.HALF_EVEN, test.getRoundingMode());
+        assertEquals("MoneyRate[1.20, HALF_EVEN]", test.toString());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void test_of_nullRate() {
+        MoneyRate.of(null, RoundingMode.HALF_EVEN);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void test_of_nullRoundingMode() {
+        MoneyRate.of(BigDecimal.ONE, null);
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_apply_matchesMultipliedBy() {
+        for (String rateStr : RATES) {
+            BigDecimal rate = new BigDecimal(rateStr);
+            for (RoundingMode mode : RoundingMode.values()) {
+                MoneyRate test = MoneyRate.of(rate, mode);
+                for (long amount : AMOUNTS) {
+                    for (CurrencyUnit currency : new CurrencyUnit[] {GBP, JPY}) {
+                        assertApply(test, Money.ofMinor(currency, amount));
+                    }
+                }
+                assertApply(test, Money.of(GBP, new BigDecimal("123456789012345678901234.56")));
+            }
+        }
+    }
+
+    @Test
+    public void test_applyMinor() {
+        MoneyRate test = MoneyRate.of(new BigDecimal("0.175"), RoundingMode.HALF_UP);
+        assertEquals(18, test.applyMinor(100));
+        assertEquals(-18, test.applyMinor(-100));
+        assertArrayEquals(new long[] {18, 2, 0}, test.applyMinor(new long[] {100, 10, 1}));
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void test_applyMinor_overflow() {
+        MoneyRate.of(new BigDecimal("2.5"), RoundingMode.HALF_UP).applyMinor(Long.MAX_VALUE);
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void test_applyMinor_roundingUnnecessary() {
+        MoneyRate.of(new BigDecimal("0.5"), RoundingMode.UNNECESSARY).applyMinor(1);
+    }
+
+    @Test
+    public void test_applyAll() {
+        MoneyRate test = MoneyRate.of(new BigDecimal("1.2"), RoundingMode.HALF_EVEN);
+        Money[] monies = {Money.parse("GBP 1.00"), Money.parse("GBP 0.13"), Money.parse("JPY 7")};
+        Money[] expected = {Money.parse("GBP 1.20"), Money.parse("GBP 0.16"), Money.parse("JPY 8")};
+        assertArrayEquals(expected, test.applyAll(monies));
+        List<Money> list = test.applyAll(Arrays.asList(monies));
+        assertEquals(Arrays.asList(expected), list);
+    }
+
+    @Test
+    public void test_moneyArray() {
+        MoneyRate test = MoneyRate.of(new BigDecimal("1.2"), RoundingMode.HALF_EVEN);
+        MoneyArray array = MoneyArray.ofMinor(GBP, 100, 13, -13);
+        assertEquals(MoneyArray.ofMinor(GBP, 120, 16, -16), array.multipliedBy(test));
+    }
+
+    @Test
+    public void test_moneyVector() {
+        MoneyRate test = MoneyRate.of(new BigDecimal("1.2"), RoundingMode.HALF_EVEN);
+        try (MoneyVector vector = MoneyVector.allocate(2)) {
+            vector.set(0, Money.parse("GBP 0.13"));
+            vector.set(1, Money.parse("JPY 7"));
+            vector.multiply(test);
+            assertEquals(Money.parse("GBP 0.16"), vector.get(0));
+            assertEquals(Money.parse("JPY 8"), vector.get(1));
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_equals_hashCode() {
+        MoneyRate a = MoneyRate.of(new BigDecimal("1.2"), RoundingMode.HALF_EVEN);
+        MoneyRate b = MoneyRate.of(new BigDecimal("1.2"), RoundingMode.HALF_EVEN);
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertNotEquals(a, MoneyRate.of(new BigDecimal("1.20"), RoundingMode.HALF_EVEN));
+        assertNotEquals(a, MoneyRate.of(new BigDecimal("1.2"), RoundingMode.HALF_UP));
+        assertNotEquals(a, "");
+    }
+
+    @Test
+    public void test_serialization() throws Exception {
+        MoneyRate test = MoneyRate.of(new BigDecimal("0.175"), RoundingMode.HALF_UP);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+            oos.writeObject(test);
+        }
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()))) {
+            MoneyRate input = (MoneyRate) ois.readObject();
+            assertEquals(test, input);
+            assertEquals(18, input.applyMinor(100));
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    private static void assertApply(MoneyRate rate, Money money) {
+        Money expected;
+        try {
+            expected = money.multipliedBy(rate.getRate(), rate.getRoundingMode());
+        } catch (ArithmeticException ex) {
+            try {
+                rate.apply(money);
+                fail("Expected ArithmeticException: " + money + " " + rate);
+            } catch (ArithmeticException expectedEx) {
+                // expected
+            }
+            return;
+        }
+        assertEquals(money + " " + rate, expected, rate.apply(money));
+        if (money.isAmountLong() && expected.isAmountLong()) {
+            assertEquals(money + " " + rate, expected.getAmountMinorLong(), rate.applyMinor(money.getAmountMinorLong()));
+        }
+    }
+
+}
@@ -0,0 +1,104 @@
+/*
+ *  Copyright 2009-present, Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.money;
+
+import static org.junit.Assert.assertEquals;
+
+import java.math.RoundingMode;
+
+import org.junit.Test;
+
+/**
+ * Test MoneySummaryStatistics.
+ */
+public class TestMoneySummaryStatistics {
+
+    private static final CurrencyUnit GBP = CurrencyUnit.of("GBP");
+    private static final Money GBP_1_23 = Money.parse("GBP 1.23");
+    private static final Money GBP_2_34 = Money.parse("GBP 2.34");
+    private static final Money GBP_M5_78 = Money.parse("GBP -5.78");
+    private static final Money USD_1_23 = Money.parse("USD 1.23");
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_accept() {
+        MoneySummaryStatistics test = MoneySummaryStatistics.create();
+        test.accept(GBP_1_23);
+        test.accept(GBP_M5_78);
+        test.accept(GBP_2_34);
+        assertEquals(3, test.getCount());
+        assertEquals(GBP, test.getCurrencyUnit());
+        assertEquals(Money.parse("GBP -2.21"), test.getSum());
+        assertEquals(GBP_M5_78, test.getMin());
+        assertEquals(GBP_2_34, test.getMax());
+        assertEquals(Money.parse("GBP -0.74"), test.getAverage(RoundingMode.HALF_UP));
+        assertEquals("MoneySummaryStatistics[count=3, sum=GBP -2.21, min=GBP -5.78, max=GBP 2.34]", test.toString());
+    }
+
+    @Test
+    public void test_combine() {
+        MoneySummaryStatistics base = MoneySummaryStatistics.create();
+        base.accept(GBP_1_23);
+        MoneySummaryStatistics other = MoneySummaryStatistics.create();
+        other.accept(GBP_M5_78);
+        other.accept(GBP_2_34);
+        base.combine(other).combine(MoneySummaryStatistics.create());
+        assertEquals(3, base.getCount());
+        assertEquals(Money.parse("GBP -2.21"), base.getSum());
+        assertEquals(GBP_M5_78, base.getMin());
+        assertEquals(GBP_2_34, base.getMax());
+        assertEquals(2, other.getCount());
+        assertEquals(Money.parse("GBP -3.44"), other.getSum());
+    }
+
+    @Test
+    public void test_combine_intoEmpty() {
+        MoneySummaryStatistics other = MoneySummaryStatistics.create();
+        other.accept(GBP_1_23);
+        MoneySummaryStatistics test = MoneySummaryStatistics.create().combine(other);
+        test.accept(GBP_2_34);
+        assertEquals(Money.parse("GBP 3.57"), test.getSum());
+        assertEquals(GBP_1_23, other.getSum());
+    }
+
+    @Test(expected = CurrencyMismatchException.class)
+    public void test_accept_currencyMismatch() {
+        MoneySummaryStatistics test = MoneySummaryStatistics.create();
+        test.accept(GBP_1_23);
+        test.accept(USD_1_23);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void test_accept_null() {
+        MoneySummaryStatistics.create().accept(null);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void test_getSum_empty() {
+        MoneySummaryStatistics.create().getSum();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void test_getAverage_empty() {
+        MoneySummaryStatistics.create().getAverage(RoundingMode.HALF_UP);
+    }
+
+    @Test
+    public void test_toString_empty() {
+        assertEquals("MoneySummaryStatistics[count=0]", MoneySummaryStatistics.create().toString());
+    }
+
+}
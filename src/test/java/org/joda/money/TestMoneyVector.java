@@ -0,0 +1,170 @@
+/*
+ *  Copyright 2009-present, Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.money;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * Test MoneyVector.
+ */
+public class TestMoneyVector {
+
+    private static final CurrencyUnit GBP = CurrencyUnit.of("GBP");
+    private static final CurrencyUnit JPY = CurrencyUnit.of("JPY");
+    private static final CurrencyUnit USD = CurrencyUnit.of("USD");
+    private static final Money GBP_1_23 = Money.parse("GBP 1.23");
+    private static final Money GBP_2_34 = Money.parse("GBP 2.34");
+    private static final Money JPY_423 = Money.parse("JPY 423");
+    private static final Money USD_1_23 = Money.parse("USD 1.23");
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_allocate() {
+        try (MoneyVector test = MoneyVector.allocate(3)) {
+            assertEquals(3, test.size());
+            assertFalse(test.isSet(0));
+            assertEquals(0, test.getAmountMinorLong(0));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_allocate_negative() {
+        MoneyVector.allocate(-1);
+    }
+
+    @Test
+    public void test_of() {
+        try (MoneyVector test = MoneyVector.of(Arrays.asList(GBP_1_23, JPY_423, USD_1_23))) {
+            assertEquals(3, test.size());
+            assertEquals(GBP_1_23, test.get(0));
+            assertEquals(JPY_423, test.get(1));
+            assertEquals(USD_1_23, test.get(2));
+            assertEquals(JPY, test.getCurrencyUnit(1));
+            assertEquals(423, test.getAmountMinorLong(1));
+        }
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void test_of_tooLarge() {
+        MoneyVector.of(Arrays.asList(Money.ofMinor(GBP, Long.MAX_VALUE).plus(GBP_1_23)));
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_set_add() {
+        try (MoneyVector test = MoneyVector.allocate(2)) {
+            test.set(0, GBP_1_23).add(0, GBP_2_34).add(1, JPY_423).setMinor(1, USD, -5);
+            assertEquals(Money.parse("GBP 3.57"), test.get(0));
+            assertEquals(Money.parse("USD -0.05"), test.get(1));
+            assertTrue(test.isSet(1));
+        }
+    }
+
+    @Test(expected = CurrencyMismatchException.class)
+    public void test_add_currencyMismatch() {
+        MoneyVector.allocate(1).set(0, GBP_1_23).add(0, USD_1_23);
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void test_add_overflow() {
+        MoneyVector.allocate(1).setMinor(0, GBP, Long.MAX_VALUE).add(0, GBP_1_23);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void test_get_empty() {
+        MoneyVector.allocate(1).get(0);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void test_get_invalidIndex() {
+        MoneyVector.allocate(1).get(1);
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_multiply_matchesMoney() {
+        Money[] monies = {GBP_1_23, JPY_423, Money.parse("USD -2.55"), Money.ofMinor(GBP, Long.MAX_VALUE / 10)};
+        BigDecimal multiplier = new BigDecimal("1.005");
+        for (RoundingMode mode : Arrays.asList(RoundingMode.HALF_EVEN, RoundingMode.UP, RoundingMode.FLOOR)) {
+            try (MoneyVector test = MoneyVector.of(Arrays.asList(monies))) {
+                test.multiply(multiplier, mode);
+                for (int i = 0; i < monies.length; i++) {
+                    assertEquals(monies[i].multipliedBy(multiplier, mode), test.get(i));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void test_negate() {
+        try (MoneyVector test = MoneyVector.of(Arrays.asList(GBP_1_23, JPY_423))) {
+            test.negate();
+            assertEquals(GBP_1_23.negated(), test.get(0));
+            assertEquals(JPY_423.negated(), test.get(1));
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_totals() {
+        try (MoneyVector test = MoneyVector.allocate(5)) {
+            test.set(0, GBP_1_23).set(1, JPY_423).set(2, GBP_2_34).set(4, JPY_423);
+            assertEquals(Money.parse("GBP 3.57"), test.total(GBP));
+            assertEquals(Money.zero(USD), test.total(USD));
+            Map<CurrencyUnit, Money> totals = test.totals();
+            assertEquals(2, totals.size());
+            assertEquals(Money.parse("GBP 3.57"), totals.get(GBP));
+            assertEquals(Money.parse("JPY 846"), totals.get(JPY));
+        }
+    }
+
+    @Test
+    public void test_total_overflowLong() {
+        try (MoneyVector test = MoneyVector.allocate(2)) {
+            test.setMinor(0, GBP, Long.MAX_VALUE).setMinor(1, GBP, Long.MAX_VALUE);
+            assertEquals(Money.ofMinor(GBP, Long.MAX_VALUE).multipliedBy(2), test.total(GBP));
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_close() {
+        MoneyVector test = MoneyVector.allocate(1);
+        assertFalse(test.isClosed());
+        assertEquals("MoneyVector[size=1]", test.toString());
+        test.close();
+        test.close();
+        assertTrue(test.isClosed());
+        assertEquals("MoneyVector[size=1, closed]", test.toString());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void test_get_closed() {
+        MoneyVector test = MoneyVector.allocate(1).set(0, GBP_1_23);
+        test.close();
+        test.get(0);
+    }
+
+}
@@ -0,0 +1,128 @@
+/*
+ *  Copyright 2009-present, Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.money;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.SortedMap;
+
+import org.junit.Test;
+
+/**
+ * Test MultiCurrencyTotal.
+ */
+public class TestMultiCurrencyTotal {
+
+    private static final CurrencyUnit GBP = CurrencyUnit.of("GBP");
+    private static final CurrencyUnit JPY = CurrencyUnit.of("JPY");
+    private static final CurrencyUnit USD = CurrencyUnit.of("USD");
+    private static final Money GBP_1_23 = Money.parse("GBP 1.23");
+    private static final Money GBP_2_34 = Money.parse("GBP 2.34");
+    private static final Money USD_1_23 = Money.parse("USD 1.23");
+    private static final Money JPY_423 = Money.parse("JPY 423");
+
+    //-----------------------------------------------------------------------
+    // create()
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_create() {
+        MultiCurrencyTotal test = MultiCurrencyTotal.create();
+        assertTrue(test.toMoneyMap().isEmpty());
+        assertTrue(test.toBigMoneyMap().isEmpty());
+        assertEquals("[]", test.toString());
+    }
+
+    //-----------------------------------------------------------------------
+    // add()
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_add_mixedCurrencies() {
+        MultiCurrencyTotal test = MultiCurrencyTotal.create()
+                .add(USD_1_23).add(GBP_1_23).add(JPY_423).add(GBP_2_34).add(USD_1_23);
+        SortedMap<CurrencyUnit, Money> map = test.toMoneyMap();
+        assertEquals(3, map.size());
+        assertEquals(Arrays.asList(GBP, JPY, USD), Arrays.asList(map.keySet().toArray()));
+        assertEquals(Money.parse("GBP 3.57"), map.get(GBP));
+        assertEquals(JPY_423, map.get(JPY));
+        assertEquals(Money.parse("USD 2.46"), map.get(USD));
+        assertEquals("[GBP 3.57, JPY 423, USD 2.46]", test.toString());
+    }
+
+    @Test
+    public void test_add_Iterable() {
+        MultiCurrencyTotal test = MultiCurrencyTotal.create().add(Arrays.asList(GBP_1_23, USD_1_23, GBP_2_34));
+        assertEquals(Money.total(GBP_1_23, GBP_2_34), test.toMoneyMap().get(GBP));
+        assertEquals(USD_1_23, test.toMoneyMap().get(USD));
+    }
+
+    @Test
+    public void test_add_zeroTotalRetained() {
+        MultiCurrencyTotal test = MultiCurrencyTotal.create().add(GBP_1_23).add(GBP_1_23.negated());
+        assertEquals(Money.zero(GBP), test.toMoneyMap().get(GBP));
+    }
+
+    @Test
+    public void test_add_BigMoney_largerScale() {
+        MultiCurrencyTotal test = MultiCurrencyTotal.create().add(GBP_1_23).add(BigMoney.parse("GBP 1.001"));
+        assertEquals(BigMoney.parse("GBP 2.231"), test.toBigMoneyMap().get(GBP));
+        assertEquals(Money.parse("GBP 2.23"), test.toMoneyMap(RoundingMode.DOWN).get(GBP));
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void test_toMoneyMap_roundingRequired() {
+        MultiCurrencyTotal.create().add(BigMoney.parse("GBP 1.001")).toMoneyMap();
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void test_add_null() {
+        MultiCurrencyTotal.create().add((BigMoneyProvider) null);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void test_toMoneyMap_unmodifiable() {
+        Map<CurrencyUnit, Money> map = MultiCurrencyTotal.create().add(GBP_1_23).toMoneyMap();
+        map.put(USD, USD_1_23);
+    }
+
+    //-----------------------------------------------------------------------
+    // merge()
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_merge() {
+        MultiCurrencyTotal base = MultiCurrencyTotal.create().add(GBP_1_23).add(JPY_423);
+        MultiCurrencyTotal other = MultiCurrencyTotal.create().add(GBP_2_34).add(USD_1_23);
+        base.merge(other);
+        assertEquals("[GBP 3.57, JPY 423, USD 1.23]", base.toString());
+        assertEquals("[GBP 2.34, USD 1.23]", other.toString());
+    }
+
+    @Test
+    public void test_merge_overflowLong() {
+        Money max = Money.ofMinor(GBP, Long.MAX_VALUE);
+        MultiCurrencyTotal test = MultiCurrencyTotal.create().add(max).merge(MultiCurrencyTotal.create().add(max));
+        assertEquals(max.toBigMoney().multipliedBy(2), test.toBigMoneyMap().get(GBP));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void test_merge_null() {
+        MultiCurrencyTotal.create().merge(null);
+    }
+
+}